@@ -0,0 +1,26 @@
+package com.BenjaminPark.bench;
+
+import com.BenjaminPark.domain.PasswordHashing;
+
+/**
+ * Shared fixtures for the microbenchmarks.
+ */
+final class Benchmarks {
+
+    /**
+     * Stores passwords unhashed, so creating users in a benchmark does not measure BCrypt.
+     */
+    static final PasswordHashing PLAINTEXT_HASHING = new PasswordHashing() {
+        @Override
+        public String hash(String rawPassword) {
+            return rawPassword;
+        }
+
+        @Override
+        public boolean matches(String rawPassword, String hashedPassword) {
+            return rawPassword.equals(hashedPassword);
+        }
+    };
+
+    private Benchmarks() {}
+}
@@ -0,0 +1,44 @@
+package com.BenjaminPark.bench;
+
+import com.BenjaminPark.domain.IdGenerator;
+import com.BenjaminPark.domain.UuidV7Generator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Primary key generation, random v4 against time-ordered v7, with one and with four threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdGeneratorBenchmark {
+
+    private final IdGenerator v7 = new UuidV7Generator();
+
+    @Benchmark
+    public UUID randomV4() {
+        return IdGenerator.RANDOM.nextId();
+    }
+
+    @Benchmark
+    public UUID timeOrderedV7() {
+        return v7.nextId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID randomV4Contended() {
+        return IdGenerator.RANDOM.nextId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID timeOrderedV7Contended() {
+        return v7.nextId();
+    }
+}
@@ -0,0 +1,30 @@
+package com.BenjaminPark.bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UUID.fromString as done by the controllers for every userId and taskId path variable.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PathParsingBenchmark {
+
+    private String pathVariable;
+
+    @Setup
+    public void setUp() {
+        pathVariable = UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public UUID parseUuid() {
+        return UUID.fromString(pathVariable);
+    }
+}
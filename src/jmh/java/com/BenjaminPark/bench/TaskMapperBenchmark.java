@@ -0,0 +1,66 @@
+package com.BenjaminPark.bench;
+
+import com.BenjaminPark.domain.PasswordHashing;
+import com.BenjaminPark.domain.Task;
+import com.BenjaminPark.domain.TaskStatus;
+import com.BenjaminPark.domain.User;
+import com.BenjaminPark.dto.CreateTaskDTO;
+import com.BenjaminPark.dto.TaskResponse;
+import com.BenjaminPark.dto.UpdateTaskDTO;
+import com.BenjaminPark.mapper.TaskMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TaskMapper conversions on the create, update and read paths, plus the parsing they do per request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskMapperBenchmark {
+
+    private final TaskMapper taskMapper = new TaskMapper();
+    private User owner;
+    private Task task;
+    private CreateTaskDTO createTaskDTO;
+    private UpdateTaskDTO updateTaskDTO;
+
+    @Setup
+    public void setUp() {
+        PasswordHashing.use(Benchmarks.PLAINTEXT_HASHING);
+        owner = new User("bench", "password");
+        task = new Task(owner, "Write report", "Quarterly numbers", LocalDate.of(2026, 3, 31));
+        createTaskDTO = new CreateTaskDTO("Write report", "Quarterly numbers", null, "2026-03-31");
+        updateTaskDTO = new UpdateTaskDTO("Write report", "Quarterly numbers, final", "IN_PROGRESS", "2026-04-30");
+    }
+
+    @Benchmark
+    public TaskResponse toTaskResponse() {
+        return taskMapper.toTaskResponse(task);
+    }
+
+    @Benchmark
+    public Task fromCreateTaskDTO() {
+        return taskMapper.fromCreateTaskDTO(createTaskDTO, owner);
+    }
+
+    @Benchmark
+    public Task applyUpdate() {
+        return taskMapper.applyUpdate(task, updateTaskDTO);
+    }
+
+    @Benchmark
+    public LocalDate parseDueDate() {
+        return LocalDate.parse(updateTaskDTO.getDueDate());
+    }
+
+    @Benchmark
+    public TaskStatus parseTaskStatus() {
+        return TaskStatus.valueOf(updateTaskDTO.getTaskStatus());
+    }
+}
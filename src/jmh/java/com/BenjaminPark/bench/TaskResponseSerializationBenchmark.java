@@ -0,0 +1,44 @@
+package com.BenjaminPark.bench;
+
+import com.BenjaminPark.dto.TaskResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of TaskResponse lists at listing page sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskResponseSerializationBenchmark {
+
+    @Param({"1", "50", "200"})
+    public int size;
+
+    private final ObjectWriter writer = new ObjectMapper().writer();
+    private List<TaskResponse> tasks;
+
+    @Setup
+    public void setUp() {
+        tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(new TaskResponse(UUID.randomUUID().toString(), "Task " + i, "Description of task " + i,
+                    "OPEN", "2026-03-31"));
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(tasks);
+    }
+}
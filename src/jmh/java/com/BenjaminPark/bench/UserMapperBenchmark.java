@@ -0,0 +1,43 @@
+package com.BenjaminPark.bench;
+
+import com.BenjaminPark.domain.PasswordHashing;
+import com.BenjaminPark.domain.User;
+import com.BenjaminPark.dto.CreateUserDTO;
+import com.BenjaminPark.dto.UserResponse;
+import com.BenjaminPark.mapper.UserMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UserMapper conversions. Password hashing is replaced by a no-op so only mapping cost is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserMapperBenchmark {
+
+    private final UserMapper userMapper = new UserMapper();
+    private User user;
+    private CreateUserDTO createUserDTO;
+
+    @Setup
+    public void setUp() {
+        PasswordHashing.use(Benchmarks.PLAINTEXT_HASHING);
+        user = new User("bench", "password");
+        createUserDTO = new CreateUserDTO("bench", "password");
+    }
+
+    @Benchmark
+    public UserResponse toUserResponse() {
+        return userMapper.toUserResponse(user);
+    }
+
+    @Benchmark
+    public User fromCreateUserDTO() {
+        return userMapper.fromCreateUserDTO(createUserDTO);
+    }
+}
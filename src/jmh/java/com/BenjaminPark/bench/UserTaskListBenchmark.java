@@ -0,0 +1,44 @@
+package com.BenjaminPark.bench;
+
+import com.BenjaminPark.domain.PasswordHashing;
+import com.BenjaminPark.domain.Task;
+import com.BenjaminPark.domain.User;
+import com.BenjaminPark.exceptions.MissingTaskException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * User.addTask and removeTask on large in-memory task lists.
+ * Each operation adds then removes one task so the list size stays at {@code size}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserTaskListBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private User user;
+    private Task extra;
+
+    @Setup
+    public void setUp() {
+        PasswordHashing.use(Benchmarks.PLAINTEXT_HASHING);
+        user = new User("bench", "password");
+        for (int i = 0; i < size; i++) {
+            user.addTask(new Task(user, "Task " + i, null));
+        }
+        extra = new Task(user, "Extra", null);
+    }
+
+    @Benchmark
+    public void addThenRemoveTask() throws MissingTaskException {
+        user.addTask(extra);
+        user.removeTask(extra);
+    }
+}
@@ -0,0 +1,83 @@
+package com.BenjaminPark.load;
+
+import com.BenjaminPark.domain.Task;
+import com.BenjaminPark.domain.User;
+import com.BenjaminPark.repository.UserRepository;
+import com.BenjaminPark.service.TaskService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures bulk task creation in rows per second at Hibernate JDBC batch sizes of 1, 50 and 500.
+ * <p>
+ * For each batch size the application is booted against a fresh database and one owner is created. Tasks are
+ * then inserted through {@link TaskService#createTasks} in requests of {@link TaskService#MAX_BULK_SIZE},
+ * the path the bulk endpoint takes: {@code load.bulkWarmup} tasks unmeasured, then {@code load.bulkTasks}
+ * measured. Results are written as JSON to {@code load.report}.
+ * <p>
+ * On in-memory H2 the difference between batch sizes is mostly per-statement overhead. Round trips, and
+ * {@code rewriteBatchedStatements}, only show against MySQL through {@code load.jdbcUrl}.
+ */
+public final class BulkInsertBenchmark {
+
+    private static final List<Integer> BATCH_SIZES = List.of(1, 50, 500);
+
+    private BulkInsertBenchmark() {}
+
+    public static void main(String[] args) throws Exception {
+        int tasks = Integer.getInteger("load.bulkTasks", 200_000);
+        int warmup = Integer.getInteger("load.bulkWarmup", 20_000);
+        Path reportPath = Path.of(System.getProperty("load.report", "target/bulk-report.json"));
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        for (int batchSize : BATCH_SIZES) {
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(LoadTestApplication.class)
+                    .run(LoadTest.applicationArguments("bulk" + batchSize, false,
+                            "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize))) {
+                results.put("batchSize" + batchSize, measure(context, warmup, tasks));
+            }
+        }
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("tasks", tasks);
+        config.put("warmupTasks", warmup);
+        config.put("tasksPerRequest", TaskService.MAX_BULK_SIZE);
+        config.put("batchSizes", BATCH_SIZES);
+
+        Map<String, Object> report = LoadReport.create(config);
+        report.put("results", results);
+        LoadReport.write(reportPath, report);
+    }
+
+    private static Map<String, Object> measure(ConfigurableApplicationContext context, int warmup, int tasks) {
+        User owner = context.getBean(UserRepository.class).save(new User("bulk-user", "password"));
+        TaskService taskService = context.getBean(TaskService.class);
+        insert(taskService, owner, warmup);
+
+        long started = System.nanoTime();
+        insert(taskService, owner, tasks);
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("seconds", Math.round(seconds * 100) / 100.0);
+        result.put("rowsPerSecond", Math.round(tasks / seconds));
+        return result;
+    }
+
+    private static void insert(TaskService taskService, User owner, int tasks) {
+        for (int start = 0; start < tasks; start += TaskService.MAX_BULK_SIZE) {
+            int size = Math.min(TaskService.MAX_BULK_SIZE, tasks - start);
+            List<Task> request = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                request.add(new Task(owner, "Bulk task " + (start + i), "Inserted by the bulk benchmark", null));
+            }
+            taskService.createTasks(request);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.BenjaminPark.load;
+
+import com.BenjaminPark.domain.TaskStatus;
+import com.BenjaminPark.service.TaskService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Times the due-date queries and the overdue sweep against a large in-memory H2 table.
+ * <p>
+ * Seeds {@code load.dueTasks} tasks spread over {@code load.users} users with {@link TaskSeeder}. Each query
+ * is then run {@code load.iterations} times, and the sweep is run until no overdue open task is left.
+ * Latencies are written as JSON to {@code load.report}.
+ */
+public final class DueQueryBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+    private static final int SWEEP_BATCH_SIZE = 500;
+
+    private DueQueryBenchmark() {}
+
+    public static void main(String[] args) throws Exception {
+        int users = Integer.getInteger("load.users", 50);
+        int tasks = Integer.getInteger("load.dueTasks", 1_000_000);
+        int iterations = Integer.getInteger("load.iterations", 200);
+        Path reportPath = Path.of(System.getProperty("load.report", "target/due-report.json"));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(LoadTestApplication.class)
+                .run(LoadTest.applicationArguments("due", false))) {
+            long seedStarted = System.nanoTime();
+            List<UUID> userIds = TaskSeeder.seed(context, "due-user-", users, tasks);
+            double seedSeconds = (System.nanoTime() - seedStarted) / 1e9;
+
+            TaskService taskService = context.getBean(TaskService.class);
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            Map<String, Object> queries = new LinkedHashMap<>();
+            queries.put("userDueWithin7Days", LatencyRecorder.time(iterations, () ->
+                    taskService.getTasksDueWithin(userIds.get(random.nextInt(userIds.size())), 7, null, PAGE_SIZE)));
+            queries.put("userOverdue", LatencyRecorder.time(iterations, () ->
+                    taskService.getOverdueTasks(userIds.get(random.nextInt(userIds.size())), null, PAGE_SIZE)));
+            queries.put("allDueWithin7Days", LatencyRecorder.time(iterations, () ->
+                    taskService.getTasksDueWithin(null, 7, null, PAGE_SIZE)));
+            queries.put("allOverdue", LatencyRecorder.time(iterations, () ->
+                    taskService.getOverdueTasks(null, null, PAGE_SIZE)));
+            queries.put("allOverdueNextPage", timePageWalk(taskService, iterations));
+            queries.put("sweepBatch", timeSweep(taskService));
+
+            Map<String, Object> config = new LinkedHashMap<>();
+            config.put("users", users);
+            config.put("tasks", tasks);
+            config.put("iterations", iterations);
+            config.put("pageSize", PAGE_SIZE);
+            config.put("sweepBatchSize", SWEEP_BATCH_SIZE);
+
+            Map<String, Object> report = LoadReport.create(config);
+            report.put("seedSeconds", Math.round(seedSeconds * 10) / 10.0);
+            report.put("queries", queries);
+            LoadReport.write(reportPath, report);
+        }
+    }
+
+    /**
+     * Follows the overdue cursor across all owners, timing every page after the first.
+     */
+    private static Map<String, Object> timePageWalk(TaskService taskService, int pages) {
+        LatencyRecorder recorder = new LatencyRecorder();
+        String cursor = taskService.getOverdueTasks(null, null, PAGE_SIZE).nextCursor();
+        long started = System.nanoTime();
+        for (int i = 0; i < pages && cursor != null; i++) {
+            long queryStarted = System.nanoTime();
+            cursor = taskService.getOverdueTasks(null, cursor, PAGE_SIZE).nextCursor();
+            recorder.record(System.nanoTime() - queryStarted, true);
+        }
+        return recorder.summarize((System.nanoTime() - started) / 1e9);
+    }
+
+    /**
+     * Runs the sweep's batches until no overdue open task is left, timing each batch.
+     */
+    private static Map<String, Object> timeSweep(TaskService taskService) {
+        LatencyRecorder recorder = new LatencyRecorder();
+        LocalDate today = LocalDate.now();
+        long moved = 0;
+        long started = System.nanoTime();
+        int updated;
+        do {
+            long batchStarted = System.nanoTime();
+            updated = taskService.transitionOverdueBatch(TaskStatus.OPEN, TaskStatus.IN_PROGRESS, today, SWEEP_BATCH_SIZE);
+            recorder.record(System.nanoTime() - batchStarted, true);
+            moved += updated;
+        } while (updated > 0);
+        Map<String, Object> summary = recorder.summarize((System.nanoTime() - started) / 1e9);
+        summary.put("tasksMoved", moved);
+        return summary;
+    }
+}
@@ -0,0 +1,192 @@
+package com.BenjaminPark.load;
+
+import com.BenjaminPark.domain.Task;
+import com.BenjaminPark.domain.TaskDetails;
+import com.BenjaminPark.domain.TaskStatus;
+import com.BenjaminPark.domain.User;
+import com.BenjaminPark.exceptions.VersionConflictException;
+import com.BenjaminPark.repository.TaskRepository;
+import com.BenjaminPark.repository.UserRepository;
+import com.BenjaminPark.service.TaskService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.LockModeType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Has many writers update a few hot tasks at once and compares three ways of doing it.
+ * <p>
+ * {@code IF_MATCH} reads the version and updates on it, as a client sending If-Match does, retrying on
+ * conflict; {@code UNCONDITIONAL} updates without a version, last writer wins; {@code PESSIMISTIC} locks the
+ * row with SELECT ... FOR UPDATE, then modifies and saves the entity, the blocking alternative. Each mode runs
+ * {@code load.writers} threads against {@code load.hotTasks} tasks for {@code load.warmup}, then
+ * {@code load.duration} measured. Completed updates per second, latency including retries, and conflicts
+ * are written as JSON to {@code load.report}.
+ */
+public final class HotTaskContentionBenchmark {
+
+    private static final int MAX_ATTEMPTS = 100;
+
+    enum Mode { IF_MATCH, UNCONDITIONAL, PESSIMISTIC }
+
+    private final TaskService taskService;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final UUID ownerId;
+    private final List<UUID> hotTasks;
+    private final LongAdder conflicts = new LongAdder();
+    private volatile boolean recording;
+    private volatile boolean stopped;
+
+    private HotTaskContentionBenchmark(ConfigurableApplicationContext context, UUID ownerId, List<UUID> hotTasks) {
+        this.taskService = context.getBean(TaskService.class);
+        this.transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        this.entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                context.getBean(EntityManagerFactory.class));
+        this.ownerId = ownerId;
+        this.hotTasks = hotTasks;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int writers = Integer.getInteger("load.writers", 64);
+        int hotTaskCount = Integer.getInteger("load.hotTasks", 4);
+        Duration warmup = DurationStyle.detectAndParse(System.getProperty("load.warmup", "10s"));
+        Duration duration = DurationStyle.detectAndParse(System.getProperty("load.duration", "60s"));
+        Path reportPath = Path.of(System.getProperty("load.report", "target/contention-report.json"));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(LoadTestApplication.class)
+                .run(LoadTest.applicationArguments("contention", false))) {
+            User owner = context.getBean(UserRepository.class).save(new User("contention-user", "password"));
+            List<Task> tasks = new ArrayList<>(hotTaskCount);
+            for (int i = 0; i < hotTaskCount; i++) {
+                tasks.add(new Task(owner, "Hot task " + i, null, null));
+            }
+            context.getBean(TaskRepository.class).persistAll(tasks);
+            List<UUID> hotTasks = tasks.stream().map(Task::getTaskId).toList();
+
+            HotTaskContentionBenchmark benchmark = new HotTaskContentionBenchmark(context, owner.getUserId(), hotTasks);
+            Map<String, Object> results = new LinkedHashMap<>();
+            for (Mode mode : Mode.values()) {
+                results.put(mode.name().toLowerCase(Locale.ROOT), benchmark.run(mode, writers, warmup, duration));
+            }
+
+            Map<String, Object> config = new LinkedHashMap<>();
+            config.put("writers", writers);
+            config.put("hotTasks", hotTaskCount);
+            config.put("warmupSeconds", warmup.toSeconds());
+            config.put("durationSeconds", duration.toSeconds());
+
+            Map<String, Object> report = LoadReport.create(config);
+            report.put("results", results);
+            LoadReport.write(reportPath, report);
+        }
+    }
+
+    private Map<String, Object> run(Mode mode, int writers, Duration warmup, Duration duration)
+            throws InterruptedException {
+        recording = false;
+        stopped = false;
+        List<LatencyRecorder> recorders = new ArrayList<>(writers);
+        List<Thread> threads = new ArrayList<>(writers);
+        for (int i = 0; i < writers; i++) {
+            LatencyRecorder recorder = new LatencyRecorder();
+            recorders.add(recorder);
+            Thread thread = new Thread(() -> write(mode, recorder), "contention-writer-" + i);
+            threads.add(thread);
+            thread.start();
+        }
+
+        Thread.sleep(warmup.toMillis());
+        conflicts.reset();
+        recording = true;
+        long started = System.nanoTime();
+        Thread.sleep(duration.toMillis());
+        stopped = true;
+        double seconds = (System.nanoTime() - started) / 1e9;
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        LatencyRecorder merged = new LatencyRecorder();
+        recorders.forEach(merged::merge);
+        Map<String, Object> summary = merged.summarize(seconds);
+        summary.put("conflicts", conflicts.sum());
+        return summary;
+    }
+
+    private void write(Mode mode, LatencyRecorder recorder) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (!stopped) {
+            UUID taskId = hotTasks.get(random.nextInt(hotTasks.size()));
+            TaskDetails details = new TaskDetails("Hot task " + random.nextInt(1_000_000), null,
+                    TaskStatus.IN_PROGRESS, null);
+            long started = System.nanoTime();
+            int retries = 0;
+            boolean success;
+            try {
+                retries = update(mode, taskId, details);
+                success = true;
+            } catch (Exception e) {
+                success = false;
+            }
+            long elapsed = System.nanoTime() - started;
+            if (recording && !stopped) {
+                recorder.record(elapsed, success);
+                conflicts.add(retries);
+            }
+        }
+    }
+
+    /**
+     * Applies one update in the given mode.
+     * @return number of version conflicts retried before it applied.
+     */
+    private int update(Mode mode, UUID taskId, TaskDetails details) throws Exception {
+        switch (mode) {
+            case IF_MATCH -> {
+                for (int attempt = 0; ; attempt++) {
+                    long version = taskService.getTaskVersion(taskId);
+                    try {
+                        taskService.updateTask(ownerId, taskId, details, version);
+                        return attempt;
+                    } catch (VersionConflictException e) {
+                        if (attempt + 1 == MAX_ATTEMPTS) {
+                            throw e;
+                        }
+                    }
+                }
+            }
+            case UNCONDITIONAL -> {
+                taskService.updateTask(ownerId, taskId, details, null);
+                return 0;
+            }
+            case PESSIMISTIC -> {
+                transactionTemplate.executeWithoutResult(status -> {
+                    Task task = entityManager.find(Task.class, taskId, LockModeType.PESSIMISTIC_WRITE);
+                    task.setTaskName(details.taskName());
+                    task.setTaskDescription(details.taskDescription());
+                    task.setTaskStatus(details.taskStatus());
+                    task.setDueDate(details.dueDate());
+                });
+                return 0;
+            }
+        }
+        throw new IllegalArgumentException("Unknown mode " + mode);
+    }
+}
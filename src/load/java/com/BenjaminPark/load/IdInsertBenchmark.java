@@ -0,0 +1,96 @@
+package com.BenjaminPark.load;
+
+import com.BenjaminPark.domain.Task;
+import com.BenjaminPark.domain.User;
+import com.BenjaminPark.repository.TaskRepository;
+import com.BenjaminPark.repository.UserRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares task insert throughput with random (v4) and time-ordered (v7) ids as the table grows.
+ * <p>
+ * For each {@code tasktracker.ids.strategy} the application is booted against a fresh database and tasks are
+ * inserted in rounds of {@code load.idRoundTasks} until the table holds {@code load.idTableSize} rows. Rows
+ * per second are reported for every round against the table size it started at, so the slowdown of random
+ * keys as the primary key index outgrows memory shows as a falling curve. Results are written as JSON to
+ * {@code load.report}.
+ * <p>
+ * The effect is clearest on InnoDB, where the primary key is the clustered index; run against MySQL through
+ * {@code load.jdbcUrl}, with a buffer pool smaller than the final table, to see it.
+ */
+public final class IdInsertBenchmark {
+
+    private static final List<String> STRATEGIES = List.of("random", "v7");
+    private static final int CHUNK = 10_000;
+    private static final int OWNERS = 50;
+
+    private IdInsertBenchmark() {}
+
+    public static void main(String[] args) throws Exception {
+        int tableSize = Integer.getInteger("load.idTableSize", 1_000_000);
+        int roundTasks = Integer.getInteger("load.idRoundTasks", 100_000);
+        Path reportPath = Path.of(System.getProperty("load.report", "target/id-report.json"));
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        for (String strategy : STRATEGIES) {
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(LoadTestApplication.class)
+                    .run(LoadTest.applicationArguments("ids-" + strategy, false,
+                            "--tasktracker.ids.strategy=" + strategy))) {
+                results.put(strategy, measure(context, tableSize, roundTasks));
+            }
+        }
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("tableSize", tableSize);
+        config.put("roundTasks", roundTasks);
+        config.put("owners", OWNERS);
+
+        Map<String, Object> report = LoadReport.create(config);
+        report.put("results", results);
+        LoadReport.write(reportPath, report);
+    }
+
+    private static List<Map<String, Object>> measure(ConfigurableApplicationContext context, int tableSize,
+                                                     int roundTasks) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        TaskRepository taskRepository = context.getBean(TaskRepository.class);
+        List<User> owners = new ArrayList<>(OWNERS);
+        for (int i = 0; i < OWNERS; i++) {
+            owners.add(new User("id-user-" + i, "password"));
+        }
+        userRepository.saveAll(owners);
+
+        List<Map<String, Object>> rounds = new ArrayList<>();
+        for (int inserted = 0; inserted < tableSize; inserted += roundTasks) {
+            int size = Math.min(roundTasks, tableSize - inserted);
+            long started = System.nanoTime();
+            insert(taskRepository, owners, inserted, size);
+            double seconds = (System.nanoTime() - started) / 1e9;
+
+            Map<String, Object> round = new LinkedHashMap<>();
+            round.put("tableSizeBefore", inserted);
+            round.put("rowsPerSecond", Math.round(size / seconds));
+            rounds.add(round);
+        }
+        return rounds;
+    }
+
+    private static void insert(TaskRepository taskRepository, List<User> owners, int first, int tasks) {
+        List<Task> chunk = new ArrayList<>(CHUNK);
+        for (int i = first; i < first + tasks; i++) {
+            chunk.add(new Task(owners.get(i % owners.size()), "Task " + i, null, null));
+            if (chunk.size() == CHUNK) {
+                taskRepository.persistAll(chunk);
+                chunk = new ArrayList<>(CHUNK);
+            }
+        }
+        taskRepository.persistAll(chunk);
+    }
+}
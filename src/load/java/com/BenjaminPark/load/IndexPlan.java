@@ -0,0 +1,65 @@
+package com.BenjaminPark.load;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Fails when a query's plan does not use one of the expected indexes. Reads EXPLAIN output from H2, where
+ * the plan is one line of text naming each index used, or from MySQL, where the {@code key} column names
+ * the index chosen for each table.
+ */
+final class IndexPlan {
+
+    private IndexPlan() {}
+
+    /**
+     * Refreshes the optimizer statistics, so plans are chosen for the seeded data.
+     */
+    static void analyze(JdbcTemplate jdbc) {
+        jdbc.execute(isMySql(jdbc) ? "ANALYZE TABLE tasks, users" : "ANALYZE");
+    }
+
+    /**
+     * Checks the plan of a query.
+     * @param name name of the query, for the error message.
+     * @param sql query to explain, with its values inlined.
+     * @param indexes indexes any one of which the plan may use.
+     * @return the index the plan uses.
+     * @throws AssertionError if the plan uses none of the indexes.
+     */
+    static String assertUses(JdbcTemplate jdbc, String name, String sql, String... indexes) {
+        String plan = String.join("; ", jdbc.query("EXPLAIN " + sql, (rs, row) -> describe(rs)))
+                .toLowerCase(Locale.ROOT);
+        for (String index : indexes) {
+            if (plan.contains(index.toLowerCase(Locale.ROOT))) {
+                return index;
+            }
+        }
+        throw new AssertionError(name + " uses none of " + List.of(indexes) + ": " + plan);
+    }
+
+    private static String describe(ResultSet rs) throws SQLException {
+        ResultSetMetaData meta = rs.getMetaData();
+        for (int column = 1; column <= meta.getColumnCount(); column++) {
+            if ("key".equalsIgnoreCase(meta.getColumnLabel(column))) {
+                // Only the chosen key; possible_keys lists indexes the plan may not use.
+                return rs.getString("table") + " " + rs.getString(column);
+            }
+        }
+        return rs.getString(1);
+    }
+
+    /**
+     * Returns whether the database is MySQL rather than H2.
+     */
+    static boolean isMySql(JdbcTemplate jdbc) {
+        return Boolean.TRUE.equals(jdbc.execute((ConnectionCallback<Boolean>) connection ->
+                connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("mysql")));
+    }
+}
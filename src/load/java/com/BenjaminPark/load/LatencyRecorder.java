@@ -0,0 +1,98 @@
+package com.BenjaminPark.load;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Latencies and error count of one endpoint, recorded by a single worker thread.
+ * Recorders of all workers are merged once the run is over.
+ */
+class LatencyRecorder {
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private long errors;
+
+    /**
+     * Records one request.
+     * @param nanos time from sending the request to reading the whole response.
+     * @param success whether the response had the expected status.
+     */
+    void record(long nanos, boolean success) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = nanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    /**
+     * Adds the requests recorded by another worker.
+     * @param other recorder to merge into this one.
+     */
+    void merge(LatencyRecorder other) {
+        if (count + other.count > latencies.length) {
+            latencies = Arrays.copyOf(latencies, count + other.count);
+        }
+        System.arraycopy(other.latencies, 0, latencies, count, other.count);
+        count += other.count;
+        errors += other.errors;
+    }
+
+    /**
+     * Returns throughput and latency percentiles in milliseconds.
+     * @param seconds length of the measured window.
+     */
+    Map<String, Object> summarize(double seconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", count);
+        summary.put("errors", errors);
+        summary.put("throughputPerSecond", round(count / seconds));
+        summary.put("p50Ms", percentile(sorted, 0.50));
+        summary.put("p99Ms", percentile(sorted, 0.99));
+        summary.put("p999Ms", percentile(sorted, 0.999));
+        summary.put("maxMs", sorted.length == 0 ? 0.0 : millis(sorted[sorted.length - 1]));
+        return summary;
+    }
+
+    /**
+     * Runs an operation a tenth of the iterations unmeasured, then the iterations measured, and returns the
+     * summary of the measured ones.
+     * @param iterations number of measured runs.
+     * @param operation operation to time.
+     */
+    static Map<String, Object> time(int iterations, Runnable operation) {
+        for (int i = 0; i < Math.max(1, iterations / 10); i++) {
+            operation.run();
+        }
+        LatencyRecorder recorder = new LatencyRecorder();
+        long started = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            long operationStarted = System.nanoTime();
+            operation.run();
+            recorder.record(System.nanoTime() - operationStarted, true);
+        }
+        return recorder.summarize((System.nanoTime() - started) / 1e9);
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return millis(sorted[Math.max(0, index)]);
+    }
+
+    private static double millis(long nanos) {
+        return round(nanos / 1_000_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
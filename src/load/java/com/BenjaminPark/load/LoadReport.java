@@ -0,0 +1,50 @@
+package com.BenjaminPark.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JSON report written at the end of a load run or benchmark.
+ */
+final class LoadReport {
+
+    private LoadReport() {}
+
+    /**
+     * Returns a report holding the time, Java version, Spring profiles, database and the given settings;
+     * the caller adds its results.
+     * @param settings settings of the run.
+     */
+    static Map<String, Object> create(Map<String, Object> settings) {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("profile", LoadTest.profile().isEmpty() ? "default" : LoadTest.profile());
+        config.put("database", LoadTest.database());
+        config.putAll(settings);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("config", config);
+        return report;
+    }
+
+    /**
+     * Writes the report as pretty-printed JSON and echoes it to standard output.
+     * @param path file to write, its directories are created if missing.
+     * @param report report to write.
+     */
+    static void write(Path path, Map<String, Object> report) throws IOException {
+        String json = new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(report);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Files.writeString(path, json);
+        System.out.println(json);
+    }
+}
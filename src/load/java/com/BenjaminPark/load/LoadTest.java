@@ -0,0 +1,416 @@
+package com.BenjaminPark.load;
+
+import com.BenjaminPark.domain.Task;
+import com.BenjaminPark.domain.TaskStatus;
+import com.BenjaminPark.domain.User;
+import com.BenjaminPark.repository.TaskRepository;
+import com.BenjaminPark.repository.UserRepository;
+import com.BenjaminPark.security.TokenService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * End-to-end load run against an in-memory H2 database in MySQL mode.
+ * Boots the application in stateless token mode, seeds {@code load.users} users with {@code load.tasksPerUser}
+ * tasks each, then has {@code load.concurrency} workers send a weighted mix of create, get, patch, list and
+ * delete requests over HTTP. After {@code load.warmup} the requests are measured for {@code load.duration},
+ * and per-endpoint throughput and p50/p99/p999 latency are written as JSON to {@code load.report}.
+ * Before the load, one request per endpoint is checked against its SQL statement budget in a separate short
+ * run with statement counting on; the measured run has it off. {@code load.profile} activates Spring
+ * profiles for both, e.g. {@code virtual} to compare virtual with platform request threads.
+ */
+public final class LoadTest {
+
+    /**
+     * Overrides application.yml; passed as command line arguments so they take precedence over it.
+     */
+    private static final List<String> APPLICATION_ARGUMENTS = List.of(
+            "--spring.jpa.hibernate.ddl-auto=create",
+            "--spring.jpa.show-sql=false",
+            "--spring.jpa.properties.hibernate.format_sql=false",
+            "--spring.main.banner-mode=off",
+            "--server.port=0",
+            "--management.server.port=0",
+            "--logging.level.root=WARN",
+            "--tasktracker.security.mode=stateless",
+            // Seeding hashes one password per user; the work factor is not what is being measured.
+            "--tasktracker.security.bcrypt.cost=4");
+
+    private static final int BUDGET_CHECK_TASKS = 10;
+
+    private static final int PAGE_SIZE = 50;
+
+    /**
+     * Most SQL statements each endpoint may run. Create may also load the owner when it is not cached.
+     */
+    private static final Map<Endpoint, Integer> STATEMENT_BUDGETS = Map.of(
+            Endpoint.CREATE, 2,
+            Endpoint.GET, 1,
+            Endpoint.PATCH, 1,
+            Endpoint.LIST, 1,
+            Endpoint.DELETE, 1);
+
+    /**
+     * Endpoints driven by the workers and their share of the request mix.
+     */
+    enum Endpoint {
+        CREATE(20), GET(35), PATCH(20), LIST(20), DELETE(5);
+
+        private final int weight;
+
+        Endpoint(int weight) {
+            this.weight = weight;
+        }
+
+        static Endpoint pick(ThreadLocalRandom random) {
+            int roll = random.nextInt(100);
+            for (Endpoint endpoint : values()) {
+                roll -= endpoint.weight;
+                if (roll < 0) {
+                    return endpoint;
+                }
+            }
+            return GET;
+        }
+    }
+
+    /**
+     * A seeded user, its bearer token and the ids of its live tasks.
+     */
+    private record Account(String userId, String authorization, List<String> taskIds) {
+
+        String randomTask(ThreadLocalRandom random) {
+            synchronized (taskIds) {
+                return taskIds.isEmpty() ? null : taskIds.get(random.nextInt(taskIds.size()));
+            }
+        }
+
+        String removeRandomTask(ThreadLocalRandom random) {
+            synchronized (taskIds) {
+                if (taskIds.isEmpty()) {
+                    return null;
+                }
+                int index = random.nextInt(taskIds.size());
+                String taskId = taskIds.get(index);
+                taskIds.set(index, taskIds.get(taskIds.size() - 1));
+                taskIds.remove(taskIds.size() - 1);
+                return taskId;
+            }
+        }
+
+        void addTask(String taskId) {
+            synchronized (taskIds) {
+                taskIds.add(taskId);
+            }
+        }
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final String baseUrl;
+    private final List<Account> accounts;
+    private volatile boolean recording;
+    private volatile boolean stopped;
+
+    private LoadTest(String baseUrl, List<Account> accounts) {
+        this.baseUrl = baseUrl;
+        this.accounts = accounts;
+    }
+
+    /**
+     * Returns the application arguments for a run against its own in-memory database, with the Spring
+     * profiles named by {@code load.profile}, if any.
+     * <p>
+     * When {@code load.jdbcUrl} is set, the run uses that database instead, with {@code load.jdbcUser} and
+     * {@code load.jdbcPassword}. Its task and user tables are dropped and recreated on every boot, so it must
+     * be a scratch database.
+     * @param database name of the in-memory database.
+     * @param countStatements whether to count SQL statements per request; adds a response wrapper and a
+     * meter lookup to every request, so it is left off for measured runs.
+     * @param overrides further application arguments for this run.
+     */
+    static String[] applicationArguments(String database, boolean countStatements, String... overrides) {
+        List<String> arguments = new ArrayList<>(APPLICATION_ARGUMENTS);
+        String jdbcUrl = System.getProperty("load.jdbcUrl", "").trim();
+        if (jdbcUrl.isEmpty()) {
+            arguments.add("--spring.datasource.url=jdbc:h2:mem:" + database
+                    + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+            arguments.add("--spring.datasource.driver-class-name=org.h2.Driver");
+            arguments.add("--spring.datasource.username=sa");
+            arguments.add("--spring.datasource.password=");
+        } else {
+            arguments.add("--spring.datasource.url=" + jdbcUrl);
+            arguments.add("--spring.datasource.username=" + System.getProperty("load.jdbcUser", ""));
+            arguments.add("--spring.datasource.password=" + System.getProperty("load.jdbcPassword", ""));
+        }
+        arguments.addAll(List.of(overrides));
+        arguments.add("--tasktracker.sql.statement-count.enabled=" + countStatements);
+        String profile = profile();
+        if (!profile.isEmpty()) {
+            arguments.add("--spring.profiles.active=" + profile);
+        }
+        return arguments.toArray(String[]::new);
+    }
+
+    static String profile() {
+        return System.getProperty("load.profile", "").trim();
+    }
+
+    /**
+     * Returns the database the run uses, for the report.
+     */
+    static String database() {
+        String jdbcUrl = System.getProperty("load.jdbcUrl", "").trim();
+        return jdbcUrl.isEmpty() ? "h2:mem" : jdbcUrl.replaceFirst("\\?.*", "");
+    }
+
+    public static void main(String[] args) throws Exception {
+        int users = Integer.getInteger("load.users", 50);
+        int tasksPerUser = Integer.getInteger("load.tasksPerUser", 200);
+        int concurrency = Integer.getInteger("load.concurrency", 32);
+        Duration warmup = DurationStyle.detectAndParse(System.getProperty("load.warmup", "10s"));
+        Duration duration = DurationStyle.detectAndParse(System.getProperty("load.duration", "60s"));
+        Path reportPath = Path.of(System.getProperty("load.report", "target/load-report.json"));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(LoadTestApplication.class)
+                .run(applicationArguments("budget", true))) {
+            start(context, 1, BUDGET_CHECK_TASKS).checkStatementBudgets();
+        }
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(LoadTestApplication.class)
+                .run(applicationArguments("load", false))) {
+            LoadTest loadTest = start(context, users, tasksPerUser);
+
+            Map<String, Object> config = new LinkedHashMap<>();
+            config.put("users", users);
+            config.put("tasksPerUser", tasksPerUser);
+            config.put("concurrency", concurrency);
+            config.put("warmupSeconds", warmup.toSeconds());
+            config.put("durationSeconds", duration.toSeconds());
+
+            Map<String, Object> report = LoadReport.create(config);
+            report.putAll(loadTest.run(concurrency, warmup, duration));
+            LoadReport.write(reportPath, report);
+        }
+    }
+
+    private static LoadTest start(ConfigurableApplicationContext context, int users, int tasksPerUser) {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        return new LoadTest("http://localhost:" + port, seed(context, users, tasksPerUser));
+    }
+
+    /**
+     * Inserts the users and their tasks directly through the repositories and issues a token per user.
+     */
+    private static List<Account> seed(ConfigurableApplicationContext context, int users, int tasksPerUser) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        TaskRepository taskRepository = context.getBean(TaskRepository.class);
+        TokenService tokenService = context.getBean(TokenService.class);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate today = LocalDate.now();
+
+        List<User> seededUsers = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            seededUsers.add(new User("load-user-" + i, "password"));
+        }
+        userRepository.saveAll(seededUsers);
+
+        List<Account> accounts = new ArrayList<>(users);
+        for (User user : seededUsers) {
+            List<Task> tasks = new ArrayList<>(tasksPerUser);
+            List<String> taskIds = new ArrayList<>(tasksPerUser);
+            for (int i = 0; i < tasksPerUser; i++) {
+                // A quarter of the tasks have no due date, the rest fall within the next few months.
+                LocalDate dueDate = random.nextInt(4) == 0 ? null : today.plusDays(random.nextInt(-30, 90));
+                Task task = new Task(user, "Task " + i, "Seeded task " + i + " of " + user.getUsername(), dueDate);
+                task.setTaskStatus(TaskStatus.values()[random.nextInt(TaskStatus.values().length)]);
+                tasks.add(task);
+                taskIds.add(task.getTaskId().toString());
+            }
+            taskRepository.persistAll(tasks);
+            String token = tokenService.issue(user.getUserId()).token();
+            accounts.add(new Account(user.getUserId().toString(), "Bearer " + token, taskIds));
+        }
+        return accounts;
+    }
+
+    /**
+     * Sends one request per endpoint for the first account and checks each against its statement budget.
+     * @throws AssertionError if an endpoint runs more statements than its budget.
+     */
+    private void checkStatementBudgets() throws Exception {
+        Account account = accounts.get(0);
+        String tasksUrl = baseUrl + "/users/" + account.userId() + "/tasks";
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        HttpResponse<String> created = send(Endpoint.CREATE, 201,
+                newRequest(account).uri(URI.create(tasksUrl)).POST(json(taskBody(random, false))));
+        String taskUrl = tasksUrl + "/" + createdTaskId(created.body());
+        send(Endpoint.GET, 200, newRequest(account).uri(URI.create(taskUrl)).GET());
+        send(Endpoint.PATCH, 200, newRequest(account).uri(URI.create(taskUrl)).method("PATCH", json(taskBody(random, true))));
+        send(Endpoint.LIST, 200, newRequest(account).uri(URI.create(tasksUrl + "?limit=" + PAGE_SIZE)).GET());
+        send(Endpoint.DELETE, 204, newRequest(account).uri(URI.create(taskUrl)).DELETE());
+    }
+
+    private HttpResponse<String> send(Endpoint endpoint, int expectedStatus, HttpRequest.Builder request) throws Exception {
+        HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException(endpoint + " returned " + response.statusCode() + ": " + response.body());
+        }
+        return StatementBudget.assertWithin(STATEMENT_BUDGETS.get(endpoint), response);
+    }
+
+    /**
+     * Runs the workers through the warmup and the measured window and returns the summaries.
+     */
+    private Map<String, Object> run(int concurrency, Duration warmup, Duration duration) throws InterruptedException {
+        List<Map<Endpoint, LatencyRecorder>> workerRecorders = new ArrayList<>(concurrency);
+        List<Thread> workers = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            Map<Endpoint, LatencyRecorder> recorders = new EnumMap<>(Endpoint.class);
+            for (Endpoint endpoint : Endpoint.values()) {
+                recorders.put(endpoint, new LatencyRecorder());
+            }
+            workerRecorders.add(recorders);
+            Thread worker = new Thread(() -> work(recorders), "load-worker-" + i);
+            workers.add(worker);
+            worker.start();
+        }
+
+        Thread.sleep(warmup.toMillis());
+        recording = true;
+        long start = System.nanoTime();
+        Thread.sleep(duration.toMillis());
+        stopped = true;
+        double seconds = (System.nanoTime() - start) / 1e9;
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        LatencyRecorder total = new LatencyRecorder();
+        for (Endpoint endpoint : Endpoint.values()) {
+            LatencyRecorder merged = new LatencyRecorder();
+            workerRecorders.forEach(recorders -> merged.merge(recorders.get(endpoint)));
+            total.merge(merged);
+            endpoints.put(endpoint.name().toLowerCase(Locale.ROOT), merged.summarize(seconds));
+        }
+        Map<String, Object> results = new LinkedHashMap<>();
+        results.put("endpoints", endpoints);
+        results.put("total", total.summarize(seconds));
+        return results;
+    }
+
+    private void work(Map<Endpoint, LatencyRecorder> recorders) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (!stopped) {
+            Account account = accounts.get(random.nextInt(accounts.size()));
+            Endpoint endpoint = Endpoint.pick(random);
+            String taskId = switch (endpoint) {
+                case GET, PATCH -> account.randomTask(random);
+                case DELETE -> account.removeRandomTask(random);
+                default -> null;
+            };
+            if (taskId == null && endpoint != Endpoint.CREATE && endpoint != Endpoint.LIST) {
+                endpoint = Endpoint.CREATE;
+            }
+
+            String tasksUrl = baseUrl + "/users/" + account.userId() + "/tasks";
+            HttpRequest.Builder request = newRequest(account);
+            int expectedStatus = switch (endpoint) {
+                case CREATE -> {
+                    request.uri(URI.create(tasksUrl)).POST(json(taskBody(random, false)));
+                    yield 201;
+                }
+                case GET -> {
+                    request.uri(URI.create(tasksUrl + "/" + taskId)).GET();
+                    yield 200;
+                }
+                case PATCH -> {
+                    request.uri(URI.create(tasksUrl + "/" + taskId)).method("PATCH", json(taskBody(random, true)));
+                    yield 200;
+                }
+                case LIST -> {
+                    request.uri(URI.create(tasksUrl + "?limit=" + PAGE_SIZE)).GET();
+                    yield 200;
+                }
+                case DELETE -> {
+                    request.uri(URI.create(tasksUrl + "/" + taskId)).DELETE();
+                    yield 204;
+                }
+            };
+
+            long started = System.nanoTime();
+            boolean success;
+            String body = null;
+            try {
+                HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+                success = response.statusCode() == expectedStatus;
+                body = response.body();
+            } catch (Exception e) {
+                success = false;
+            }
+            long elapsed = System.nanoTime() - started;
+            if (recording && !stopped) {
+                recorders.get(endpoint).record(elapsed, success);
+            }
+            if (endpoint == Endpoint.CREATE && success) {
+                String createdTaskId = createdTaskId(body);
+                if (createdTaskId != null) {
+                    account.addTask(createdTaskId);
+                }
+            }
+        }
+    }
+
+    private static HttpRequest.Builder newRequest(Account account) {
+        return HttpRequest.newBuilder()
+                .header("Authorization", account.authorization())
+                .header("Content-Type", "application/json");
+    }
+
+    private String taskBody(ThreadLocalRandom random, boolean withStatus) {
+        int n = random.nextInt(1_000_000);
+        String status = withStatus ? TaskStatus.values()[random.nextInt(TaskStatus.values().length)].name() : null;
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("taskName", "Load task " + n);
+        body.put("taskDescription", "Created during the load run (" + n + ")");
+        body.put("taskStatus", status);
+        body.put("dueDate", LocalDate.now().plusDays(random.nextInt(0, 60)).toString());
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String createdTaskId(String body) {
+        try {
+            return objectMapper.readTree(body).path("taskId").asText(null);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static HttpRequest.BodyPublisher json(String body) {
+        return HttpRequest.BodyPublishers.ofString(body);
+    }
+}
@@ -0,0 +1,14 @@
+package com.BenjaminPark.load;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Boots the whole application for the load run.
+ */
+@SpringBootApplication(scanBasePackages = "com.BenjaminPark")
+@EntityScan("com.BenjaminPark.domain")
+@EnableJpaRepositories("com.BenjaminPark.repository")
+public class LoadTestApplication {
+}
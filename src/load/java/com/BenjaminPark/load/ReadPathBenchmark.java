@@ -0,0 +1,141 @@
+package com.BenjaminPark.load;
+
+import com.BenjaminPark.domain.Task;
+import com.BenjaminPark.dto.TaskView;
+import com.BenjaminPark.exceptions.MissingTaskException;
+import com.BenjaminPark.mapper.TaskMapper;
+import com.BenjaminPark.repository.TaskFilter;
+import com.BenjaminPark.service.TaskService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Compares allocations per request and latency of the entity read path with the projection read path.
+ * <p>
+ * Before: the task entity is loaded with its owner joined, as the eager {@code owner} association did, and
+ * mapped from the entity. After: the {@link TaskView} projection is selected and mapped, as
+ * {@code GET .../tasks/{taskId}} and the task listing now do. Both are run for a single task and for a page
+ * of an owner's tasks, {@code load.readIterations} times each on one thread, over {@code load.readTasks}
+ * tasks seeded with {@link TaskSeeder}. Allocated bytes per request come from the thread's allocation
+ * counter and include the in-memory database's own work when running on H2. Results are written as JSON
+ * to {@code load.report}.
+ */
+public final class ReadPathBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+    private static final int SAMPLE_TASKS = 1000;
+    private static final String ENTITY_BY_ID =
+            "select t from Task t join fetch t.owner where t.taskId = :taskId";
+    private static final String ENTITY_PAGE =
+            "select t from Task t join fetch t.owner where t.owner.userId = :ownerId order by t.taskName, t.taskId";
+
+    private ReadPathBenchmark() {}
+
+    public static void main(String[] args) throws Exception {
+        int users = Integer.getInteger("load.users", 50);
+        int tasks = Integer.getInteger("load.readTasks", 100_000);
+        int iterations = Integer.getInteger("load.readIterations", 5000);
+        Path reportPath = Path.of(System.getProperty("load.report", "target/read-report.json"));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(LoadTestApplication.class)
+                .run(LoadTest.applicationArguments("read", false))) {
+            List<UUID> userIds = TaskSeeder.seed(context, "read-user-", users, tasks);
+            TaskService taskService = context.getBean(TaskService.class);
+            TaskMapper taskMapper = context.getBean(TaskMapper.class);
+            EntityManagerFactory entityManagerFactory = context.getBean(EntityManagerFactory.class);
+            List<UUID> taskIds = sampleTaskIds(taskService, userIds);
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            Map<String, Object> results = new LinkedHashMap<>();
+            results.put("getEntity", measure(iterations, () -> {
+                UUID taskId = taskIds.get(random.nextInt(taskIds.size()));
+                taskMapper.toTaskResponse(loadEntities(entityManagerFactory, ENTITY_BY_ID, "taskId", taskId, 1)
+                        .get(0));
+            }));
+            results.put("getProjection", measure(iterations, () -> {
+                UUID taskId = taskIds.get(random.nextInt(taskIds.size()));
+                try {
+                    taskMapper.toTaskResponse(taskService.getTaskViewByTaskId(taskId));
+                } catch (MissingTaskException e) {
+                    throw new IllegalStateException("Sampled task " + taskId + " is missing", e);
+                }
+            }));
+            results.put("pageEntity", measure(iterations, () -> {
+                UUID userId = userIds.get(random.nextInt(userIds.size()));
+                loadEntities(entityManagerFactory, ENTITY_PAGE, "ownerId", userId, PAGE_SIZE)
+                        .forEach(taskMapper::toTaskResponse);
+            }));
+            results.put("pageProjection", measure(iterations, () -> {
+                UUID userId = userIds.get(random.nextInt(userIds.size()));
+                taskMapper.toTaskPageResponse(taskService.getTaskPageByOwnerId(userId, TaskFilter.ALL, null,
+                        PAGE_SIZE));
+            }));
+
+            Map<String, Object> config = new LinkedHashMap<>();
+            config.put("users", users);
+            config.put("tasks", tasks);
+            config.put("iterations", iterations);
+            config.put("pageSize", PAGE_SIZE);
+
+            Map<String, Object> report = LoadReport.create(config);
+            report.put("results", results);
+            LoadReport.write(reportPath, report);
+        }
+    }
+
+    private static List<UUID> sampleTaskIds(TaskService taskService, List<UUID> userIds) {
+        List<UUID> taskIds = new ArrayList<>(SAMPLE_TASKS);
+        for (UUID userId : userIds) {
+            taskService.getTaskPageByOwnerId(userId, TaskFilter.ALL, null, SAMPLE_TASKS / userIds.size() + 1)
+                    .tasks().forEach(task -> taskIds.add(task.taskId()));
+        }
+        return taskIds;
+    }
+
+    private static List<Task> loadEntities(EntityManagerFactory entityManagerFactory, String jpql, String parameter,
+                                           Object value, int maxResults) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery(jpql, Task.class)
+                    .setParameter(parameter, value)
+                    .setMaxResults(maxResults)
+                    .getResultList();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    /**
+     * Times the operation like {@link LatencyRecorder#time} and adds the mean bytes it allocates per run.
+     */
+    private static Map<String, Object> measure(int iterations, Runnable operation) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < iterations; i++) {
+            operation.run();
+        }
+        LatencyRecorder recorder = new LatencyRecorder();
+        long allocated = 0;
+        long started = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+            long operationStarted = System.nanoTime();
+            operation.run();
+            recorder.record(System.nanoTime() - operationStarted, true);
+            allocated += threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        }
+        Map<String, Object> summary = recorder.summarize((System.nanoTime() - started) / 1e9);
+        summary.put("allocatedBytesPerRequest", allocated / iterations);
+        return summary;
+    }
+}
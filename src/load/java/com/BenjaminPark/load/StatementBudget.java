@@ -0,0 +1,62 @@
+package com.BenjaminPark.load;
+
+import com.BenjaminPark.config.StatementCountFilter;
+import com.BenjaminPark.config.StatementCounter;
+
+import java.net.http.HttpResponse;
+import java.util.function.Supplier;
+
+/**
+ * Fails when a request or a block of code runs more SQL statements than declared.
+ * Requires {@code tasktracker.sql.statement-count.enabled=true}.
+ */
+final class StatementBudget {
+
+    private StatementBudget() {}
+
+    /**
+     * Checks the statement count a response reports in its {@value StatementCountFilter#HEADER} header.
+     * @param budget most statements the request may run.
+     * @param response response to check.
+     * @return the response.
+     * @throws AssertionError if the header is missing or above the budget.
+     */
+    static <T> HttpResponse<T> assertWithin(int budget, HttpResponse<T> response) {
+        String header = response.headers().firstValue(StatementCountFilter.HEADER)
+                .orElseThrow(() -> new AssertionError("No " + StatementCountFilter.HEADER + " header on "
+                        + describe(response) + "; is statement counting enabled?"));
+        int statements = Integer.parseInt(header);
+        if (statements > budget) {
+            throw new AssertionError(describe(response) + " ran " + statements
+                    + " SQL statements, budget is " + budget);
+        }
+        return response;
+    }
+
+    /**
+     * Runs the action on the current thread and checks how many statements it ran.
+     * @param budget most statements the action may run.
+     * @param description what the action does, for the failure message.
+     * @param action code to run.
+     * @return the action's result.
+     * @throws AssertionError if the action ran more statements than the budget.
+     */
+    static <T> T assertWithin(int budget, String description, Supplier<T> action) {
+        StatementCounter.start();
+        T result;
+        int statements;
+        try {
+            result = action.get();
+        } finally {
+            statements = StatementCounter.stop();
+        }
+        if (statements > budget) {
+            throw new AssertionError(description + " ran " + statements + " SQL statements, budget is " + budget);
+        }
+        return result;
+    }
+
+    private static String describe(HttpResponse<?> response) {
+        return response.request().method() + " " + response.request().uri().getPath();
+    }
+}
@@ -0,0 +1,137 @@
+package com.BenjaminPark.load;
+
+import com.BenjaminPark.domain.TaskStatus;
+import com.BenjaminPark.repository.TaskFilter;
+import com.BenjaminPark.repository.TaskSort;
+import com.BenjaminPark.service.TaskService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Checks the index plans of the filtered and sorted task listing and times it against a large table.
+ * <p>
+ * Seeds {@code load.queryTasks} tasks spread over {@code load.users} users with {@link TaskSeeder}. Each
+ * access path of the listing is first explained, and the run stops with an AssertionError if one does not
+ * use its composite index. Each listing is then run {@code load.iterations} times for random owners, and a
+ * name-ordered cursor is followed page by page. Plans and latencies are written as JSON to
+ * {@code load.report}.
+ */
+public final class TaskQueryBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+    private static final String USERNAME_PREFIX = "query-user-";
+
+    private static final String OWNER = "owner_id = (select user_id from users where username = '"
+            + USERNAME_PREFIX + "0')";
+    private static final String COLUMNS = "select task_id, task_name, task_description, task_status, due_date, version"
+            + " from tasks where " + OWNER;
+    private static final String PAGE = " limit " + (PAGE_SIZE + 1);
+
+    private record PlanCheck(String sql, String... indexes) {
+    }
+
+    private TaskQueryBenchmark() {}
+
+    public static void main(String[] args) throws Exception {
+        int users = Integer.getInteger("load.users", 50);
+        int tasks = Integer.getInteger("load.queryTasks", 1_000_000);
+        int iterations = Integer.getInteger("load.iterations", 200);
+        Path reportPath = Path.of(System.getProperty("load.report", "target/query-report.json"));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(LoadTestApplication.class)
+                .run(LoadTest.applicationArguments("query", false))) {
+            long seedStarted = System.nanoTime();
+            List<UUID> userIds = TaskSeeder.seed(context, USERNAME_PREFIX, users, tasks);
+            double seedSeconds = (System.nanoTime() - seedStarted) / 1e9;
+
+            JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+            IndexPlan.analyze(jdbc);
+            Map<String, Object> plans = new LinkedHashMap<>();
+            planChecks(IndexPlan.isMySql(jdbc)).forEach((name, check) ->
+                    plans.put(name, IndexPlan.assertUses(jdbc, name, check.sql(), check.indexes())));
+
+            TaskService taskService = context.getBean(TaskService.class);
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            LocalDate today = LocalDate.now();
+            Map<String, TaskFilter> filters = new LinkedHashMap<>();
+            filters.put("byName", TaskFilter.ALL);
+            filters.put("namePrefix", new TaskFilter(Set.of(), null, null, "Task 12", TaskSort.NAME));
+            filters.put("statusByDueDate", new TaskFilter(Set.of(TaskStatus.OPEN, TaskStatus.IN_PROGRESS), null,
+                    null, null, TaskSort.DUE_DATE));
+            filters.put("dueRangeByDueDate", new TaskFilter(Set.of(), today, today.plusDays(30), null,
+                    TaskSort.DUE_DATE));
+            Map<String, Object> queries = new LinkedHashMap<>();
+            filters.forEach((name, filter) -> queries.put(name, LatencyRecorder.time(iterations, () ->
+                    taskService.getTaskPageByOwnerId(userIds.get(random.nextInt(userIds.size())), filter, null,
+                            PAGE_SIZE))));
+            queries.put("byNameNextPage", timePageWalk(taskService, userIds.get(0), iterations));
+
+            Map<String, Object> config = new LinkedHashMap<>();
+            config.put("users", users);
+            config.put("tasks", tasks);
+            config.put("iterations", iterations);
+            config.put("pageSize", PAGE_SIZE);
+
+            Map<String, Object> report = LoadReport.create(config);
+            report.put("seedSeconds", Math.round(seedSeconds * 10) / 10.0);
+            report.put("plans", plans);
+            report.put("queries", queries);
+            LoadReport.write(reportPath, report);
+        }
+    }
+
+    /**
+     * Returns the listing's access paths as SQL with literal values, each with the indexes that may serve it.
+     * The owner is looked up by name so the statements read the same on H2 and MySQL.
+     * The unfiltered name order is only checked on MySQL: H2 does not weigh the ORDER BY when choosing
+     * between indexes on the owner, so it scans the foreign key index and sorts.
+     */
+    private static Map<String, PlanCheck> planChecks(boolean mySql) {
+        LocalDate today = LocalDate.now();
+        Map<String, PlanCheck> checks = new LinkedHashMap<>();
+        if (mySql) {
+            checks.put("byName", new PlanCheck(
+                    COLUMNS + " order by task_name, task_id" + PAGE,
+                    "idx_task_owner_name"));
+        }
+        checks.put("byNameAfterCursor", new PlanCheck(
+                COLUMNS + " and task_name > 'Task 5' order by task_name, task_id" + PAGE,
+                "idx_task_owner_name"));
+        checks.put("namePrefix", new PlanCheck(
+                COLUMNS + " and task_name like 'Task 12%' order by task_name, task_id" + PAGE,
+                "idx_task_owner_name"));
+        checks.put("statusByDueDate", new PlanCheck(
+                COLUMNS + " and task_status in ('OPEN', 'IN_PROGRESS') order by due_date, task_id" + PAGE,
+                "idx_task_owner_status_due", "idx_task_owner_due"));
+        checks.put("dueRangeByDueDate", new PlanCheck(
+                COLUMNS + " and due_date between '" + today + "' and '" + today.plusDays(30) + "'"
+                        + " order by due_date, task_id" + PAGE,
+                "idx_task_owner_due"));
+        return checks;
+    }
+
+    /**
+     * Follows one owner's name-ordered cursor, timing every page after the first.
+     */
+    private static Map<String, Object> timePageWalk(TaskService taskService, UUID userId, int pages) {
+        LatencyRecorder recorder = new LatencyRecorder();
+        String cursor = taskService.getTaskPageByOwnerId(userId, TaskFilter.ALL, null, PAGE_SIZE).nextCursor();
+        long started = System.nanoTime();
+        for (int i = 0; i < pages && cursor != null; i++) {
+            long queryStarted = System.nanoTime();
+            cursor = taskService.getTaskPageByOwnerId(userId, TaskFilter.ALL, cursor, PAGE_SIZE).nextCursor();
+            recorder.record(System.nanoTime() - queryStarted, true);
+        }
+        return recorder.summarize((System.nanoTime() - started) / 1e9);
+    }
+}
@@ -0,0 +1,60 @@
+package com.BenjaminPark.load;
+
+import com.BenjaminPark.domain.Task;
+import com.BenjaminPark.domain.TaskStatus;
+import com.BenjaminPark.domain.User;
+import com.BenjaminPark.repository.TaskRepository;
+import com.BenjaminPark.repository.UserRepository;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Seeds a large task table directly through the repositories.
+ * Tasks named {@code "Task <n>"} are spread randomly over the owners and statuses, with due dates spread
+ * evenly over the year before and after today and one in ten without a due date.
+ */
+final class TaskSeeder {
+
+    private static final int CHUNK = 10_000;
+    private static final int DATE_SPREAD_DAYS = 365;
+
+    private TaskSeeder() {}
+
+    /**
+     * Creates the owners, named {@code usernamePrefix + index}, and their tasks.
+     * @return ids of the owners, in index order.
+     */
+    static List<UUID> seed(ConfigurableApplicationContext context, String usernamePrefix, int users, int tasks) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        TaskRepository taskRepository = context.getBean(TaskRepository.class);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate today = LocalDate.now();
+
+        List<User> owners = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            owners.add(new User(usernamePrefix + i, "password"));
+        }
+        userRepository.saveAll(owners);
+
+        List<Task> chunk = new ArrayList<>(CHUNK);
+        for (int i = 0; i < tasks; i++) {
+            User owner = owners.get(random.nextInt(users));
+            LocalDate dueDate = random.nextInt(10) == 0
+                    ? null : today.plusDays(random.nextInt(-DATE_SPREAD_DAYS, DATE_SPREAD_DAYS + 1));
+            Task task = new Task(owner, "Task " + i, null, dueDate);
+            task.setTaskStatus(TaskStatus.values()[random.nextInt(TaskStatus.values().length)]);
+            chunk.add(task);
+            if (chunk.size() == CHUNK) {
+                taskRepository.persistAll(chunk);
+                chunk = new ArrayList<>(CHUNK);
+            }
+        }
+        taskRepository.persistAll(chunk);
+        return owners.stream().map(User::getUserId).toList();
+    }
+}
@@ -0,0 +1,77 @@
+package com.BenjaminPark.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits how many requests run at once when requests are served on virtual threads.
+ * <p>
+ * Virtual threads remove the Tomcat thread-pool cap, so without a limit thousands of requests would
+ * queue on the Hikari pool and time out there. This filter admits at most
+ * {@code tasktracker.admission.max-concurrent-requests} requests, lets others wait up to
+ * {@code tasktracker.admission.wait-timeout} for a slot, and answers 503 with Retry-After after that.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class DatabaseAdmissionFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final Duration waitTimeout;
+    private final Counter rejected;
+
+    public DatabaseAdmissionFilter(@Value("${tasktracker.admission.max-concurrent-requests:40}") int maxConcurrentRequests,
+                                   @Value("${tasktracker.admission.wait-timeout:1s}") Duration waitTimeout,
+                                   MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.waitTimeout = waitTimeout;
+        this.rejected = Counter.builder("tasktracker.admission.rejected")
+                .description("Requests rejected because no admission slot became free in time")
+                .register(meterRegistry);
+        Gauge.builder("tasktracker.admission.waiting", permits, Semaphore::getQueueLength)
+                .description("Requests waiting for an admission slot")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean admitted;
+        try {
+            admitted = permits.tryAcquire(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        if (!admitted) {
+            rejected.increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.BenjaminPark.config;
+
+import com.BenjaminPark.domain.IdGenerator;
+import com.BenjaminPark.domain.UuidV7Generator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Selects the primary key strategy for new tasks and users.
+ * <p>
+ * {@code tasktracker.ids.strategy} is either {@code v7} (time-ordered, default) or {@code random}.
+ */
+@Configuration
+public class IdGeneratorConfig {
+
+    public IdGeneratorConfig(@Value("${tasktracker.ids.strategy:v7}") String strategy) {
+        switch (strategy) {
+            case "v7" -> IdGenerator.use(new UuidV7Generator());
+            case "random" -> IdGenerator.use(IdGenerator.RANDOM);
+            default -> throw new IllegalStateException("Unknown id strategy: " + strategy);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.BenjaminPark.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Metrics published on {@code /actuator/prometheus}.
+ * <p>
+ * Spring Boot binds request timers ({@code http.server.requests}), repository timers
+ * ({@code spring.data.repository.invocations}), Hikari pool gauges ({@code hikaricp.*}) and, when the
+ * {@code dev} profile turns Hibernate statistics on, {@code hibernate.*}. This adds {@code tasktracker.service}
+ * timers, tagged by class and method, for services annotated with {@code @Timed}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,12 @@
+package com.BenjaminPark.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} methods. They run on virtual threads in the virtual-thread profile.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
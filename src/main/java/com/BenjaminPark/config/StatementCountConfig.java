@@ -0,0 +1,20 @@
+package com.BenjaminPark.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers {@link StatementCounter} with Hibernate when {@code tasktracker.sql.statement-count.enabled} is set.
+ */
+@Configuration
+@ConditionalOnProperty(name = "tasktracker.sql.statement-count.enabled", havingValue = "true")
+public class StatementCountConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCounter());
+    }
+}
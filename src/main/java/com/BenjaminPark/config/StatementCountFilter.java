@@ -0,0 +1,107 @@
+package com.BenjaminPark.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Counts the SQL statements each request runs, for spotting N+1 queries during development.
+ * <p>
+ * The count so far is sent in the {@value #HEADER} response header, set just before the response is
+ * committed, or once the request is done for a response without a body. The final count is recorded in the
+ * {@code tasktracker.sql.statements} summary tagged by URI template. Work done on other threads, such as streamed exports, is not counted.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@ConditionalOnProperty(name = "tasktracker.sql.statement-count.enabled", havingValue = "true")
+public class StatementCountFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-SQL-Statements";
+
+    private final MeterRegistry meterRegistry;
+
+    public StatementCountFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        StatementCounter.start();
+        try {
+            filterChain.doFilter(request, new CountingResponse(response));
+        } finally {
+            int statements = StatementCounter.stop();
+            // A response without a body, such as 204, is only committed after the filters return.
+            if (!response.isCommitted()) {
+                response.setHeader(HEADER, Integer.toString(statements));
+            }
+            Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("tasktracker.sql.statements")
+                    .description("SQL statements run per request")
+                    .tag("uri", uri == null ? "UNKNOWN" : uri.toString())
+                    .register(meterRegistry)
+                    .record(statements);
+        }
+    }
+
+    /**
+     * Adds the statement count header before the first write or flush commits the response.
+     */
+    private static final class CountingResponse extends HttpServletResponseWrapper {
+
+        CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        private void addCountHeader() {
+            if (!isCommitted()) {
+                setHeader(HEADER, Integer.toString(StatementCounter.current()));
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addCountHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addCountHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addCountHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addCountHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addCountHeader();
+            super.sendError(sc);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.BenjaminPark.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread.
+ * <p>
+ * Counting only happens between {@link #start()} and {@link #stop()}, which {@link StatementCountFilter}
+ * calls around each request. A JDBC batch counts once, when its statement is prepared.
+ */
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    /**
+     * Starts counting on the current thread from zero.
+     */
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    /**
+     * Returns the statements counted on the current thread since {@link #start()}.
+     */
+    public static int current() {
+        int[] count = COUNT.get();
+        return count == null ? 0 : count[0];
+    }
+
+    /**
+     * Stops counting on the current thread.
+     * @return the statements counted since {@link #start()}.
+     */
+    public static int stop() {
+        int statements = current();
+        COUNT.remove();
+        return statements;
+    }
+}
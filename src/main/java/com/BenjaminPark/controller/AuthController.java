@@ -0,0 +1,65 @@
+package com.BenjaminPark.controller;
+
+import com.BenjaminPark.domain.User;
+import com.BenjaminPark.dto.LoginDTO;
+import com.BenjaminPark.dto.TokenResponse;
+import com.BenjaminPark.exceptions.MissingUsernameException;
+import com.BenjaminPark.security.PasswordHasher;
+import com.BenjaminPark.security.TokenService;
+import com.BenjaminPark.service.UserService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller issuing access tokens in stateless security mode.
+ *
+ * <p>Verifies the password once and returns a short-lived signed token carrying the userId.
+ * Subsequent requests present the token as {@code Authorization: Bearer <token>}.</p>
+ */
+@RestController
+@RequestMapping("/auth")
+@ConditionalOnProperty(name = "tasktracker.security.mode", havingValue = "stateless")
+public class AuthController {
+
+    private final UserService userService;
+    private final TokenService tokenService;
+    private final PasswordHasher passwordHasher;
+
+    public AuthController(UserService userService, TokenService tokenService, PasswordHasher passwordHasher) {
+        this.userService = userService;
+        this.tokenService = tokenService;
+        this.passwordHasher = passwordHasher;
+    }
+
+    /**
+     * Exchanges a username and password for an access token.
+     *
+     * @param loginDTO DTO containing the username and password
+     * @return a {@link ResponseEntity} containing the token and HTTP 200 (OK)
+     * @throws BadCredentialsException if the username or password is wrong, answered with HTTP 401
+     */
+    @PostMapping("/token")
+    public ResponseEntity<TokenResponse> issueToken(@RequestBody LoginDTO loginDTO) {
+        User user;
+        try {
+            user = userService.getUserByUsername(loginDTO.getUsername());
+        } catch (MissingUsernameException e) {
+            throw new BadCredentialsException("Bad credentials");
+        }
+        if (!user.checkUserPassword(loginDTO.getPassword())) {
+            throw new BadCredentialsException("Bad credentials");
+        }
+        if (passwordHasher.upgradeEncoding(user.getUserPasswordHashed())) {
+            userService.rehashUserPassword(user.getUserId(), passwordHasher.encode(loginDTO.getPassword()));
+        }
+        TokenService.IssuedToken token = tokenService.issue(user.getUserId());
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(new TokenResponse(user.getUserId().toString(), token.token(), token.expiresAt().toString()));
+    }
+}
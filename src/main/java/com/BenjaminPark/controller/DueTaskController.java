@@ -0,0 +1,67 @@
+package com.BenjaminPark.controller;
+
+import com.BenjaminPark.dto.TaskPageResponse;
+import com.BenjaminPark.mapper.TaskMapper;
+import com.BenjaminPark.security.CurrentUser;
+import com.BenjaminPark.service.TaskPage;
+import com.BenjaminPark.service.TaskService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for due-date queries over the authenticated user's tasks.
+ *
+ * <p>Both listings are ordered by due date and paged with a cursor, and are answered by
+ * range scans on the due-date index rather than by reading every task.</p>
+ */
+@RestController
+@RequestMapping("/tasks")
+public class DueTaskController {
+
+    private final TaskService taskService;
+    private final TaskMapper taskMapper;
+
+    public DueTaskController(TaskService taskService, TaskMapper taskMapper) {
+        this.taskService = taskService;
+        this.taskMapper = taskMapper;
+    }
+
+    /**
+     * Lists the authenticated user's tasks that are not completed and due within the next days.
+     *
+     * @param authentication the authenticated caller
+     * @param within days ahead to look; 0 means due today.
+     * @param cursor cursor returned with the previous page; omit for the first page.
+     * @param limit  maximum number of tasks on the page.
+     * @return a {@link ResponseEntity} containing the page and the cursor for the next one, with HTTP 200 (OK)
+     */
+    @GetMapping("/due")
+    public ResponseEntity<TaskPageResponse> listTasksDueSoon(Authentication authentication,
+                                                             @RequestParam(defaultValue = "" + TaskService.DEFAULT_DUE_WITHIN_DAYS) int within,
+                                                             @RequestParam(required = false) String cursor,
+                                                             @RequestParam(defaultValue = "" + TaskService.DEFAULT_PAGE_SIZE) int limit) {
+        TaskPage page = taskService.getTasksDueWithin(CurrentUser.id(authentication), within, cursor, limit);
+        return ResponseEntity.status(HttpStatus.OK).body(taskMapper.toTaskPageResponse(page));
+    }
+
+    /**
+     * Lists the authenticated user's tasks that are not completed and past their due date.
+     *
+     * @param authentication the authenticated caller
+     * @param cursor cursor returned with the previous page; omit for the first page.
+     * @param limit  maximum number of tasks on the page.
+     * @return a {@link ResponseEntity} containing the page and the cursor for the next one, with HTTP 200 (OK)
+     */
+    @GetMapping("/overdue")
+    public ResponseEntity<TaskPageResponse> listOverdueTasks(Authentication authentication,
+                                                             @RequestParam(required = false) String cursor,
+                                                             @RequestParam(defaultValue = "" + TaskService.DEFAULT_PAGE_SIZE) int limit) {
+        TaskPage page = taskService.getOverdueTasks(CurrentUser.id(authentication), cursor, limit);
+        return ResponseEntity.status(HttpStatus.OK).body(taskMapper.toTaskPageResponse(page));
+    }
+}
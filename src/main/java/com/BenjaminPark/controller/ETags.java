@@ -0,0 +1,64 @@
+package com.BenjaminPark.controller;
+
+import com.BenjaminPark.exceptions.VersionConflictException;
+
+/**
+ * Strong entity tags derived from entity versions.
+ */
+final class ETags {
+
+    private ETags() {}
+
+    /**
+     * Returns the quoted ETag for a version.
+     * @param version entity version.
+     */
+    static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Returns whether an If-None-Match or If-Match header lists the given ETag.
+     * Weak validators match by their opaque value, as If-None-Match requires.
+     * @param header header value, may be null.
+     * @param etag quoted ETag to look for.
+     */
+    static boolean matches(String header, String etag) {
+        if (header == null) {
+            return false;
+        }
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the version named by an If-Match header, or null for {@code *} or no header.
+     * @param header header value, may be null.
+     * @throws VersionConflictException if the header does not name a single strong version ETag.
+     */
+    static Long expectedVersion(String header) throws VersionConflictException {
+        if (header == null || header.trim().equals("*")) {
+            return null;
+        }
+        String tag = header.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new VersionConflictException("If-Match must be a single strong ETag.");
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new VersionConflictException("If-Match does not match any version.");
+        }
+    }
+}
@@ -1,17 +1,36 @@
 package com.BenjaminPark.controller;
 
 import com.BenjaminPark.domain.Task;
+import com.BenjaminPark.domain.TaskDetails;
+import com.BenjaminPark.domain.TaskStatus;
+import com.BenjaminPark.domain.User;
+import com.BenjaminPark.dto.BulkStatusUpdateDTO;
+import com.BenjaminPark.dto.BulkUpdateResponse;
 import com.BenjaminPark.dto.CreateTaskDTO;
+import com.BenjaminPark.dto.TaskPageResponse;
 import com.BenjaminPark.dto.TaskResponse;
+import com.BenjaminPark.dto.TaskStatsResponse;
+import com.BenjaminPark.dto.TaskView;
 import com.BenjaminPark.dto.UpdateTaskDTO;
+import com.BenjaminPark.event.TaskFeed;
 import com.BenjaminPark.exceptions.MissingTaskException;
 import com.BenjaminPark.mapper.TaskMapper;
+import com.BenjaminPark.repository.TaskFilter;
+import com.BenjaminPark.repository.TaskSort;
+import com.BenjaminPark.service.TaskPage;
 import com.BenjaminPark.service.TaskService;
 import com.BenjaminPark.service.UserService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -27,11 +46,13 @@ public class TaskController {
     private final TaskService taskService;
     private final UserService userService;
     private final TaskMapper taskMapper;
+    private final TaskFeed taskFeed;
 
-    public TaskController(TaskService taskService, UserService userService, TaskMapper taskMapper) {
+    public TaskController(TaskService taskService, UserService userService, TaskMapper taskMapper, TaskFeed taskFeed) {
         this.taskService = taskService;
         this.userService = userService;
         this.taskMapper = taskMapper;
+        this.taskFeed = taskFeed;
     }
 
 
@@ -49,53 +70,213 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(taskResponse);
     }
 
+    /**
+     * Creates several tasks for the given user in one request.
+     * The owner is resolved once and the tasks are inserted in JDBC batches.
+     *
+     * @param newTasks DTOs containing task details.
+     * @param userId ID of the user who owns these tasks.
+     * @return ResponseEntity containing the created tasks mapped to TaskResponse and HTTP status 201 Created.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<TaskResponse>> createTasks(@RequestBody List<CreateTaskDTO> newTasks, @PathVariable String userId) {
+        User owner = userService.getUserById(UUID.fromString(userId));
+        List<Task> tasks = newTasks.stream().map(newTask -> taskMapper.fromCreateTaskDTO(newTask, owner)).toList();
+        List<TaskResponse> taskResponses = taskService.createTasks(tasks).stream().map(taskMapper::toTaskResponse).toList();
+        return ResponseEntity.status(HttpStatus.CREATED).body(taskResponses);
+    }
+
+    /**
+     * Lists the tasks of the given user one page at a time, optionally filtered and sorted.
+     *
+     * @param userId     UUID string of the owner user.
+     * @param status     statuses to include; all statuses if omitted.
+     * @param dueFrom    earliest due date to include (ISO date), inclusive.
+     * @param dueTo      latest due date to include (ISO date), inclusive.
+     * @param namePrefix prefix the task name must start with.
+     * @param sort       NAME or DUE_DATE; tasks without a due date sort first under DUE_DATE.
+     * @param cursor     cursor returned with the previous page; omit for the first page.
+     * @param limit      maximum number of tasks on the page.
+     * @return ResponseEntity containing the page and the cursor for the next one, with HTTP status 200 OK.
+     */
+    @GetMapping
+    public ResponseEntity<TaskPageResponse> listTasks(@PathVariable String userId,
+                                                      @RequestParam(required = false) Set<TaskStatus> status,
+                                                      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+                                                      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+                                                      @RequestParam(required = false) String namePrefix,
+                                                      @RequestParam(defaultValue = "NAME") TaskSort sort,
+                                                      @RequestParam(required = false) String cursor,
+                                                      @RequestParam(defaultValue = "" + TaskService.DEFAULT_PAGE_SIZE) int limit) {
+        TaskFilter filter = new TaskFilter(status, dueFrom, dueTo, namePrefix, sort);
+        TaskPage page = taskService.getTaskPageByOwnerId(UUID.fromString(userId), filter, cursor, limit);
+        List<TaskResponse> tasks = page.tasks().stream().map(taskMapper::toTaskResponse).toList();
+        return ResponseEntity.status(HttpStatus.OK).body(new TaskPageResponse(tasks, page.nextCursor()));
+    }
+
+    /**
+     * Lists the given user's tasks that are not completed and due within the next days, earliest due first.
+     *
+     * @param userId UUID string of the owner user.
+     * @param within days ahead to look; 0 means due today.
+     * @param cursor cursor returned with the previous page; omit for the first page.
+     * @param limit  maximum number of tasks on the page.
+     * @return ResponseEntity containing the page and the cursor for the next one, with HTTP status 200 OK.
+     */
+    @GetMapping("/due")
+    public ResponseEntity<TaskPageResponse> listTasksDueSoon(@PathVariable String userId,
+                                                             @RequestParam(defaultValue = "" + TaskService.DEFAULT_DUE_WITHIN_DAYS) int within,
+                                                             @RequestParam(required = false) String cursor,
+                                                             @RequestParam(defaultValue = "" + TaskService.DEFAULT_PAGE_SIZE) int limit) {
+        TaskPage page = taskService.getTasksDueWithin(UUID.fromString(userId), within, cursor, limit);
+        return ResponseEntity.status(HttpStatus.OK).body(taskMapper.toTaskPageResponse(page));
+    }
+
+    /**
+     * Lists the given user's tasks that are not completed and past their due date, earliest due first.
+     *
+     * @param userId UUID string of the owner user.
+     * @param cursor cursor returned with the previous page; omit for the first page.
+     * @param limit  maximum number of tasks on the page.
+     * @return ResponseEntity containing the page and the cursor for the next one, with HTTP status 200 OK.
+     */
+    @GetMapping("/overdue")
+    public ResponseEntity<TaskPageResponse> listOverdueTasks(@PathVariable String userId,
+                                                             @RequestParam(required = false) String cursor,
+                                                             @RequestParam(defaultValue = "" + TaskService.DEFAULT_PAGE_SIZE) int limit) {
+        TaskPage page = taskService.getOverdueTasks(UUID.fromString(userId), cursor, limit);
+        return ResponseEntity.status(HttpStatus.OK).body(taskMapper.toTaskPageResponse(page));
+    }
+
+    /**
+     * Searches the names and descriptions of the given user's tasks.
+     *
+     * @param userId UUID string of the owner user.
+     * @param q      words to search for; each must match a word in the task or be the start of one.
+     * @param limit  maximum number of results.
+     * @return ResponseEntity containing the matching tasks, best match first, and HTTP status 200 OK.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<TaskResponse>> searchTasks(@PathVariable String userId, @RequestParam String q,
+                                                          @RequestParam(defaultValue = "" + TaskService.DEFAULT_SEARCH_RESULTS) int limit) {
+        List<TaskResponse> tasks = taskService.searchTasks(UUID.fromString(userId), q, limit).stream()
+                .map(taskMapper::toTaskResponse).toList();
+        return ResponseEntity.status(HttpStatus.OK).body(tasks);
+    }
+
+    /**
+     * Returns the number of the given user's tasks in each status and how many are overdue.
+     * A task is overdue when it is not completed and its due date is before today.
+     *
+     * @param userId UUID string of the owner user.
+     * @return ResponseEntity containing the task counts and HTTP status 200 OK.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStatsResponse> getTaskStats(@PathVariable String userId) {
+        TaskStatsResponse stats = taskMapper.toTaskStatsResponse(taskService.getTaskStats(UUID.fromString(userId)));
+        return ResponseEntity.status(HttpStatus.OK).body(stats);
+    }
+
+    /**
+     * Streams create, update and delete events for the given user's tasks as Server-Sent Events.
+     * Replaces polling individual tasks; see {@link TaskFeed} for delivery semantics.
+     *
+     * @param userId UUID string of the owner user.
+     * @return SseEmitter that stays open until the client disconnects or the stream times out.
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTaskEvents(@PathVariable String userId) {
+        return taskFeed.subscribe(UUID.fromString(userId));
+    }
+
     /**
      * Retrieves a task by its taskId.
+     * The response carries the task version as a strong ETag. When If-None-Match lists the current
+     * ETag, only the version is queried and 304 Not Modified is returned without a body.
      *
-     * @param taskId UUID string of the task to retrieve.
-     * @return ResponseEntity containing the requested task mapped to TaskResponse and HTTP status 200 OK.
+     * @param taskId      UUID string of the task to retrieve.
+     * @param ifNoneMatch ETags the client already holds, may be null.
+     * @return ResponseEntity containing the requested task mapped to TaskResponse and HTTP status 200 OK,
+     * or HTTP status 304 Not Modified.
      * @throws MissingTaskException if the task with the given ID does not exist.
      */
     @GetMapping("/{taskId}")
-    public ResponseEntity<TaskResponse> getTask(@PathVariable String taskId) throws MissingTaskException {
-        Task task = taskService.getTaskByTaskId(UUID.fromString(taskId));
+    public ResponseEntity<TaskResponse> getTask(@PathVariable String taskId,
+                                                @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
+            throws MissingTaskException {
+        UUID id = UUID.fromString(taskId);
+        if (ifNoneMatch != null) {
+            String etag = ETags.of(taskService.getTaskVersion(id));
+            if (ETags.matches(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+        }
+        TaskView task = taskService.getTaskViewByTaskId(id);
         TaskResponse taskResponse = taskMapper.toTaskResponse(task);
-        return ResponseEntity.status(HttpStatus.OK).body(taskResponse);
+        return ResponseEntity.status(HttpStatus.OK).eTag(ETags.of(task.version())).body(taskResponse);
     }
 
     /**
      * Updates an existing task with new details.
+     * The task is not loaded first; ownership is checked by the update statement. With If-Match, the
+     * update only applies if the task is still at that version, and the new ETag is returned.
      *
      * @param updateTask DTO containing updated task fields.
      * @param taskId     UUID string of the task to update.
      * @param userId     UUID string of the owner user.
-     * @return ResponseEntity containing the updated task mapped to TaskResponse and HTTP status 200 OK.
+     * @param ifMatch    ETag of the version the client last saw, may be null.
+     * @return ResponseEntity containing the updated task mapped to TaskResponse and HTTP status 200 OK,
+     * or HTTP status 412 Precondition Failed if the task changed since that version.
      * @throws MissingTaskException if the task with the given ID does not exist.
      */
     @PatchMapping("/{taskId}")
     public ResponseEntity<TaskResponse> updateTask(@RequestBody UpdateTaskDTO updateTask,
-                                                   @PathVariable String taskId, @PathVariable String userId) throws MissingTaskException {
-        Task oldTask = taskService.getTaskByTaskId(UUID.fromString(taskId));
-        Task newTask = taskMapper.applyUpdate(oldTask, updateTask);
-        TaskResponse taskResponse = taskMapper.toTaskResponse(taskService.updateTask(UUID.fromString(userId), newTask));
+                                                   @PathVariable String taskId, @PathVariable String userId,
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+            throws MissingTaskException {
+        UUID id = UUID.fromString(taskId);
+        Long expectedVersion = ETags.expectedVersion(ifMatch);
+        TaskDetails details = taskService.updateTask(UUID.fromString(userId), id, taskMapper.toTaskDetails(updateTask),
+                expectedVersion);
+        TaskResponse taskResponse = taskMapper.toTaskResponse(id, details);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK);
+        if (expectedVersion != null) {
+            response.eTag(ETags.of(expectedVersion + 1));
+        }
+        return response.body(taskResponse);
+    }
 
-        return ResponseEntity.status(HttpStatus.OK).body(taskResponse);
+    /**
+     * Moves all of the user's tasks in one status to another status with a single statement.
+     *
+     * @param bulkStatusUpdate DTO containing the current status, target status and optional due-date bound.
+     * @param userId           UUID string of the owner user.
+     * @return ResponseEntity containing the number of tasks changed and HTTP status 200 OK.
+     */
+    @PatchMapping
+    public ResponseEntity<BulkUpdateResponse> transitionTaskStatus(@RequestBody BulkStatusUpdateDTO bulkStatusUpdate,
+                                                                   @PathVariable String userId) {
+        String dueBefore = bulkStatusUpdate.getDueBefore();
+        int updated = taskService.transitionTaskStatus(UUID.fromString(userId),
+                TaskStatus.valueOf(bulkStatusUpdate.getFromStatus()),
+                TaskStatus.valueOf(bulkStatusUpdate.getToStatus()),
+                dueBefore == null || dueBefore.isEmpty() ? null : LocalDate.parse(dueBefore));
+        return ResponseEntity.status(HttpStatus.OK).body(new BulkUpdateResponse(updated));
     }
 
     /**
      * Deletes a task by its ID for the specified user.
+     * The task is not loaded first; ownership is checked by the delete statement.
      *
      * @param taskId UUID string of the task to delete.
      * @param userId UUID string of the user requesting deletion.
-     * @return ResponseEntity containing the deleted task mapped to TaskResponse and HTTP status 200 OK.
+     * @return ResponseEntity with HTTP status 204 No Content.
      * @throws MissingTaskException if the task with the given ID does not exist.
      */
     @DeleteMapping("/{taskId}")
-    public ResponseEntity<TaskResponse> deleteTask(@PathVariable String taskId, @PathVariable String userId) throws MissingTaskException {
-        Task deleteTask = taskService.deleteTask(UUID.fromString(userId), taskService.getTaskByTaskId(UUID.fromString(taskId)));
-        TaskResponse taskResponse = taskMapper.toTaskResponse(deleteTask);
-        return ResponseEntity.status(HttpStatus.OK).body(taskResponse);
-
-
+    public ResponseEntity<Void> deleteTask(@PathVariable String taskId, @PathVariable String userId) throws MissingTaskException {
+        taskService.deleteTask(UUID.fromString(userId), UUID.fromString(taskId));
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
 }
@@ -0,0 +1,76 @@
+package com.BenjaminPark.controller;
+
+import com.BenjaminPark.mapper.TaskMapper;
+import com.BenjaminPark.security.CurrentUser;
+import com.BenjaminPark.service.TaskService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+
+/**
+ * REST controller for bulk export of the caller's tasks.
+ *
+ * <p>Writes each task as newline-delimited JSON directly to the response stream
+ * while the rows are read from the database, so the export never holds all of
+ * them in memory.</p>
+ */
+@RestController
+@RequestMapping("/tasks/export")
+public class TaskExportController {
+
+    static final String NDJSON = "application/x-ndjson";
+
+    private final TaskService taskService;
+    private final TaskMapper taskMapper;
+    private final ObjectWriter writer;
+
+    public TaskExportController(TaskService taskService, TaskMapper taskMapper, ObjectMapper objectMapper) {
+        this.taskService = taskService;
+        this.taskMapper = taskMapper;
+        this.writer = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Exports the authenticated user's tasks as NDJSON, one TaskResponse per line.
+     *
+     * @param authentication the authenticated caller
+     * @return a {@link ResponseEntity} streaming the export with HTTP 200 (OK)
+     */
+    @GetMapping(produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportTasks(Authentication authentication) {
+        UUID ownerId = CurrentUser.id(authentication);
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = new BufferedOutputStream(outputStream);
+            try {
+                taskService.streamTasksByOwner(ownerId, task -> {
+                    try {
+                        writer.writeValue(out, taskMapper.toTaskResponse(task));
+                        out.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            out.flush();
+        };
+        return ResponseEntity.status(HttpStatus.OK).body(body);
+    }
+}
@@ -6,6 +6,7 @@ import com.BenjaminPark.dto.UpdateUserDTO;
 import com.BenjaminPark.dto.UserResponse;
 import com.BenjaminPark.mapper.UserMapper;
 import com.BenjaminPark.service.UserService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -52,34 +53,51 @@ public class UserController {
     /**
      * Retrieves a user by its unique identifier.
      *
-     * <p>Returns the user representation corresponding to the given user ID.</p>
+     * <p>Returns the user representation corresponding to the given user ID, with the user version
+     * as a strong ETag. The version is always read from the database, so a cached user never yields
+     * a stale ETag. When If-None-Match lists the current ETag, HTTP 304 (Not Modified) is returned
+     * without a body.</p>
      *
      * @param userId the UUID of the user to retrieve
-     * @return a {@link ResponseEntity} containing the user and HTTP 200 (OK)
+     * @param ifNoneMatch ETags the client already holds, may be null
+     * @return a {@link ResponseEntity} containing the user and HTTP 200 (OK), or HTTP 304 (Not Modified)
      */
 
     @GetMapping("/{userId}")
-    public ResponseEntity<UserResponse> getUser(@PathVariable String userId) {
-        UserResponse userResponse = userMapper.toUserResponse(userService.getUserById(UUID.fromString(userId)));
-        return ResponseEntity.status(HttpStatus.OK).body(userResponse);
+    public ResponseEntity<UserResponse> getUser(@PathVariable String userId,
+                                                @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        UUID id = UUID.fromString(userId);
+        long version = userService.getUserVersion(id);
+        String etag = ETags.of(version);
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        User user = userService.getUserById(id, version);
+        UserResponse userResponse = userMapper.toUserResponse(user);
+        return ResponseEntity.status(HttpStatus.OK).eTag(ETags.of(user.getVersion())).body(userResponse);
     }
 
     /**
      * Updates an existing user.
      *
      * <p>Applies the provided update data to the user identified by the given ID
-     * and returns the updated user representation.</p>
+     * and returns the updated user representation. With If-Match, the update only
+     * applies if the user is still at that version.</p>
      *
      * @param updateUserDTO DTO containing fields to update
      * @param userId the UUID of the user to update
-     * @return a {@link ResponseEntity} containing the updated user and HTTP 200 (OK)
+     * @param ifMatch ETag of the version the client last saw, may be null
+     * @return a {@link ResponseEntity} containing the updated user and HTTP 200 (OK),
+     * or HTTP 412 (Precondition Failed) if the user changed since that version
      */
 
     @PatchMapping("/{userId}")
-    public ResponseEntity<UserResponse> updateUser(@RequestBody UpdateUserDTO updateUserDTO, @PathVariable String userId) {
-        User user = userMapper.applyUpdate(userService.getUserById(UUID.fromString(userId)), updateUserDTO);
+    public ResponseEntity<UserResponse> updateUser(@RequestBody UpdateUserDTO updateUserDTO, @PathVariable String userId,
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        User user = userService.updateUsername(UUID.fromString(userId), updateUserDTO.getUsername(),
+                ETags.expectedVersion(ifMatch));
         UserResponse userResponse = userMapper.toUserResponse(user);
-        return ResponseEntity.status(HttpStatus.OK).body(userResponse);
+        return ResponseEntity.status(HttpStatus.OK).eTag(ETags.of(user.getVersion())).body(userResponse);
     }
 
     /**
@@ -0,0 +1,42 @@
+package com.BenjaminPark.domain;
+
+import java.util.UUID;
+
+/**
+ * Source of primary keys for new entities.
+ * Ids are assigned on construction, so the active generator is held statically and can be
+ * replaced once at startup.
+ */
+public interface IdGenerator {
+
+    /**
+     * Random (version 4) UUIDs, the original strategy.
+     */
+    IdGenerator RANDOM = UUID::randomUUID;
+
+    /**
+     * Returns a new unique id.
+     */
+    UUID nextId();
+
+    /**
+     * Returns the generator used for new entities.
+     */
+    static IdGenerator current() {
+        return Holder.current;
+    }
+
+    /**
+     * Replaces the generator used for new entities.
+     * @param generator generator to use from now on.
+     */
+    static void use(IdGenerator generator) {
+        Holder.current = generator;
+    }
+
+    final class Holder {
+        private static volatile IdGenerator current = new UuidV7Generator();
+
+        private Holder() {}
+    }
+}
@@ -0,0 +1,60 @@
+package com.BenjaminPark.domain;
+
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+/**
+ * Hashes and verifies user passwords.
+ * Users hash their password on construction, so the active implementation is held statically and
+ * is replaced once at startup by the calibrated, executor-backed hasher.
+ */
+public interface PasswordHashing {
+
+    /**
+     * BCrypt with the library's default cost, used until a calibrated hasher is installed.
+     */
+    PasswordHashing DEFAULT = new PasswordHashing() {
+        @Override
+        public String hash(String rawPassword) {
+            return BCrypt.hashpw(rawPassword, BCrypt.gensalt());
+        }
+
+        @Override
+        public boolean matches(String rawPassword, String hashedPassword) {
+            return BCrypt.checkpw(rawPassword, hashedPassword);
+        }
+    };
+
+    /**
+     * Returns a new salted hash of the password.
+     * @param rawPassword password to hash.
+     */
+    String hash(String rawPassword);
+
+    /**
+     * Returns whether the password matches the hash.
+     * @param rawPassword password to check.
+     * @param hashedPassword stored hash.
+     */
+    boolean matches(String rawPassword, String hashedPassword);
+
+    /**
+     * Returns the implementation used by users.
+     */
+    static PasswordHashing current() {
+        return Holder.current;
+    }
+
+    /**
+     * Replaces the implementation used by users.
+     * @param hashing implementation to use from now on.
+     */
+    static void use(PasswordHashing hashing) {
+        Holder.current = hashing;
+    }
+
+    final class Holder {
+        private static volatile PasswordHashing current = DEFAULT;
+
+        private Holder() {}
+    }
+}
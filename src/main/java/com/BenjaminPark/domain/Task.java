@@ -2,6 +2,7 @@ package com.BenjaminPark.domain;
 
 
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
 import java.time.LocalDate;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,14 +16,18 @@ import java.util.UUID;
 @Entity
 @Table(
         name = "tasks",
-        indexes = {@Index(name = "idx_task_status", columnList = "taskStatus")
+        indexes = {@Index(name = "idx_task_status_due", columnList = "taskStatus, dueDate, taskId"),
+                @Index(name = "idx_task_due", columnList = "dueDate, taskId"),
+                @Index(name = "idx_task_owner_name", columnList = "owner_id, taskName, taskId"),
+                @Index(name = "idx_task_owner_status_due", columnList = "owner_id, taskStatus, dueDate"),
+                @Index(name = "idx_task_owner_due", columnList = "owner_id, dueDate, taskId")
     })
 
-public class Task {
+public class Task implements Persistable<UUID> {
     @Id
     private UUID taskId;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_id", nullable = false)
     private User owner;
 
@@ -39,11 +44,18 @@ public class Task {
     @Column
     private LocalDate dueDate;
 
+    @Version
+    @Column(nullable = false)
+    private long version;
+
+    @Transient
+    private boolean isNew = true;
+
     protected Task() {}
 
     public Task(User owner, String taskName, String taskDescription, LocalDate dueDate) {
         this.owner = owner;
-        this.taskId = UUID.randomUUID();
+        this.taskId = IdGenerator.current().nextId();
         this.taskName = taskName;
         this.taskDescription = taskDescription;
         this.taskStatus = TaskStatus.OPEN;
@@ -76,6 +88,36 @@ public class Task {
         return taskId;
     }
 
+    /**
+     * Returns id of this task, used by Spring Data.
+     */
+    @Override
+    public UUID getId() {
+        return taskId;
+    }
+
+    /**
+     * Returns version of this task, incremented on every change.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns whether this task has not been persisted yet.
+     * Ids are assigned on construction, so this tells Spring Data to INSERT rather than merge.
+     */
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     /**
      * Returns taskname of this task.
      */
@@ -0,0 +1,15 @@
+package com.BenjaminPark.domain;
+
+import java.time.LocalDate;
+
+/**
+ * The user-editable fields of a task.
+ * Used to change a task without loading the entity first.
+ *
+ * @param taskName name of the task.
+ * @param taskDescription description of the task, may be null.
+ * @param taskStatus status of the task.
+ * @param dueDate due date of the task, may be null.
+ */
+public record TaskDetails(String taskName, String taskDescription, TaskStatus taskStatus, LocalDate dueDate) {
+}
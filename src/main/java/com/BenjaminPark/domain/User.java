@@ -4,7 +4,7 @@ import com.BenjaminPark.exceptions.DuplicateTaskException;
 import com.BenjaminPark.exceptions.InvalidPasswordException;
 import com.BenjaminPark.exceptions.MissingTaskException;
 import jakarta.persistence.*;
-import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.data.domain.Persistable;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -17,14 +17,16 @@ import java.util.UUID;
  */
 
 @Entity
-@Table(name = "users")
-public class User {
-
+@Table(name = "users",
+        uniqueConstraints = {@UniqueConstraint(name = User.USERNAME_CONSTRAINT, columnNames = "username")
+    })
+public class User implements Persistable<UUID> {
+    public static final String USERNAME_CONSTRAINT = "uk_users_username";
 
     @Id
     private UUID userId;
 
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     private String username;
 
     @Column(nullable = false)
@@ -33,12 +35,19 @@ public class User {
     @OneToMany(mappedBy = "owner", cascade = CascadeType.ALL)
     List<Task> tasks;
 
+    @Version
+    @Column(nullable = false)
+    private long version;
+
+    @Transient
+    private boolean isNew = true;
+
     protected User() {}
 
     public User(String username, String password) {
-        this.userId = UUID.randomUUID();
+        this.userId = IdGenerator.current().nextId();
         this.username = username;
-        this.userPassword = BCrypt.hashpw(password, BCrypt.gensalt());
+        this.userPassword = PasswordHashing.current().hash(password);
         this.tasks = new ArrayList<>();
     }
 
@@ -65,12 +74,42 @@ public class User {
         return userId;
     }
 
+    /**
+     * Returns id of this user, used by Spring Data.
+     */
+    @Override
+    public UUID getId() {
+        return userId;
+    }
+
+    /**
+     * Returns version of this user, incremented on every change.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns whether this user has not been persisted yet.
+     * Ids are assigned on construction, so this tells Spring Data to INSERT rather than merge.
+     */
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     /**
      * Checks if password passed matches this user's password.
      * @param password password of this user.
      */
     public boolean checkUserPassword(String password) {
-        return BCrypt.checkpw(password, userPassword);
+        return PasswordHashing.current().matches(password, userPassword);
     }
 
     /**
@@ -100,7 +139,15 @@ public class User {
         if (!checkUserPassword(oldPassword)) {
             throw new InvalidPasswordException("Invalid Password");
         }
-        this.userPassword = BCrypt.hashpw(newPassword, BCrypt.gensalt());
+        this.userPassword = PasswordHashing.current().hash(newPassword);
+    }
+
+    /**
+     * Replaces the stored hash with a new hash of the same password, e.g. with a higher work factor.
+     * @param hashedPassword new hash of this user's current password.
+     */
+    public void rehashUserPassword(String hashedPassword) {
+        this.userPassword = hashedPassword;
     }
 
     /**
@@ -0,0 +1,40 @@
+package com.BenjaminPark.dto;
+
+public class BulkStatusUpdateDTO {
+    final String fromStatus;
+    final String toStatus;
+    final String dueBefore;
+
+    /**
+     * Creates bulk status update object.
+     * @param fromStatus Status tasks must currently have.
+     * @param toStatus Status to move matching tasks to.
+     * @param dueBefore Only tasks due strictly before this date are matched, if set.
+     */
+    public BulkStatusUpdateDTO(String fromStatus, String toStatus, String dueBefore) {
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.dueBefore = dueBefore;
+    }
+
+    /**
+     * Returns status tasks must currently have.
+     */
+    public String getFromStatus() {
+        return fromStatus;
+    }
+
+    /**
+     * Returns status to move matching tasks to.
+     */
+    public String getToStatus() {
+        return toStatus;
+    }
+
+    /**
+     * Returns exclusive due date upper bound.
+     */
+    public String getDueBefore() {
+        return dueBefore;
+    }
+}
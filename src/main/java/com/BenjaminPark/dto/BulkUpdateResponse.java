@@ -0,0 +1,20 @@
+package com.BenjaminPark.dto;
+
+public class BulkUpdateResponse {
+    final int updatedCount;
+
+    /**
+     * Creates new bulk update response object.
+     * @param updatedCount Number of tasks changed.
+     */
+    public BulkUpdateResponse(int updatedCount) {
+        this.updatedCount = updatedCount;
+    }
+
+    /**
+     * Returns number of tasks changed.
+     */
+    public int getUpdatedCount() {
+        return updatedCount;
+    }
+}
@@ -1,5 +1,7 @@
 package com.BenjaminPark.dto;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+
 public class CreateTaskDTO {
     final String taskName;
     final String taskDescription;
@@ -23,6 +25,7 @@ public class CreateTaskDTO {
      * @param taskStatus Status of this task.
      * @param dueDate Due date of this task.
      */
+    @JsonCreator
     public CreateTaskDTO(String taskName, String taskDescription, String taskStatus, String dueDate) {
         this.taskName = taskName;
         this.taskDescription = taskDescription;
@@ -0,0 +1,30 @@
+package com.BenjaminPark.dto;
+
+public class LoginDTO {
+    final String username;
+    final String password;
+
+    /**
+     * Creates new login object.
+     * @param username Name of this user.
+     * @param password Password of this user.
+     */
+    public LoginDTO(String username, String password) {
+        this.username = username;
+        this.password = password;
+    }
+
+    /**
+     * Returns username of this user.
+     */
+    public String getUsername() {
+        return username;
+    }
+
+    /**
+     * Returns password of this user.
+     */
+    public String getPassword() {
+        return password;
+    }
+}
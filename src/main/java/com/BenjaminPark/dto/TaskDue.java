@@ -0,0 +1,22 @@
+package com.BenjaminPark.dto;
+
+import com.BenjaminPark.domain.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Owner, status and due date of a task, selected directly in JPQL to schedule reminders.
+ *
+ * @param taskId id of the task.
+ * @param ownerId id of the task's owner.
+ * @param taskStatus status of the task.
+ * @param dueDate due date of the task.
+ */
+public record TaskDue(UUID taskId, UUID ownerId, TaskStatus taskStatus, LocalDate dueDate) {
+
+    /**
+     * JPQL constructor expression for this projection over a Task aliased {@code t}.
+     */
+    public static final String SELECT = "new com.BenjaminPark.dto.TaskDue(t.taskId, t.owner.userId, t.taskStatus, t.dueDate)";
+}
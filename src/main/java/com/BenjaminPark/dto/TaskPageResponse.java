@@ -0,0 +1,32 @@
+package com.BenjaminPark.dto;
+
+import java.util.List;
+
+public class TaskPageResponse {
+    final List<TaskResponse> tasks;
+    final String nextCursor;
+
+    /**
+     * Creates new task page response object.
+     * @param tasks Tasks on this page.
+     * @param nextCursor Cursor for the next page, null if there is none.
+     */
+    public TaskPageResponse(List<TaskResponse> tasks, String nextCursor) {
+        this.tasks = tasks;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Returns tasks on this page.
+     */
+    public List<TaskResponse> getTasks() {
+        return tasks;
+    }
+
+    /**
+     * Returns cursor for the next page.
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
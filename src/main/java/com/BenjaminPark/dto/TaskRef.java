@@ -0,0 +1,17 @@
+package com.BenjaminPark.dto;
+
+import java.util.UUID;
+
+/**
+ * Id of a task and of its owner, selected directly in JPQL.
+ *
+ * @param taskId id of the task.
+ * @param ownerId id of the task's owner.
+ */
+public record TaskRef(UUID taskId, UUID ownerId) {
+
+    /**
+     * JPQL constructor expression for this projection over a Task aliased {@code t}.
+     */
+    public static final String SELECT = "new com.BenjaminPark.dto.TaskRef(t.taskId, t.owner.userId)";
+}
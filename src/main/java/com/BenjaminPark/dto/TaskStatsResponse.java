@@ -0,0 +1,52 @@
+package com.BenjaminPark.dto;
+
+import java.util.Map;
+
+public class TaskStatsResponse {
+    final Map<String, Long> countsByStatus;
+    final long total;
+    final long overdue;
+    final String asOf;
+
+    /**
+     * Creates new task statistics response object.
+     * @param countsByStatus Number of tasks in each status, keyed by status name.
+     * @param total Number of tasks.
+     * @param overdue Number of tasks not completed whose due date has passed.
+     * @param asOf Date overdue is counted against.
+     */
+    public TaskStatsResponse(Map<String, Long> countsByStatus, long total, long overdue, String asOf) {
+        this.countsByStatus = countsByStatus;
+        this.total = total;
+        this.overdue = overdue;
+        this.asOf = asOf;
+    }
+
+    /**
+     * Returns number of tasks in each status.
+     */
+    public Map<String, Long> getCountsByStatus() {
+        return countsByStatus;
+    }
+
+    /**
+     * Returns number of tasks.
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns number of tasks not completed whose due date has passed.
+     */
+    public long getOverdue() {
+        return overdue;
+    }
+
+    /**
+     * Returns date overdue is counted against.
+     */
+    public String getAsOf() {
+        return asOf;
+    }
+}
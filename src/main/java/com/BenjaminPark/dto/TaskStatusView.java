@@ -0,0 +1,21 @@
+package com.BenjaminPark.dto;
+
+import com.BenjaminPark.domain.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Status and due date of a task, selected directly in JPQL to build task statistics.
+ *
+ * @param taskId id of the task.
+ * @param taskStatus status of the task.
+ * @param dueDate due date of the task, may be null.
+ */
+public record TaskStatusView(UUID taskId, TaskStatus taskStatus, LocalDate dueDate) {
+
+    /**
+     * JPQL constructor expression for this projection over a Task aliased {@code t}.
+     */
+    public static final String SELECT = "new com.BenjaminPark.dto.TaskStatusView(t.taskId, t.taskStatus, t.dueDate)";
+}
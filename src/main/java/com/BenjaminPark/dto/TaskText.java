@@ -0,0 +1,18 @@
+package com.BenjaminPark.dto;
+
+import java.util.UUID;
+
+/**
+ * Searchable text of a task, selected directly in JPQL to build the search index.
+ *
+ * @param taskId id of the task.
+ * @param taskName name of the task.
+ * @param taskDescription description of the task, may be null.
+ */
+public record TaskText(UUID taskId, String taskName, String taskDescription) {
+
+    /**
+     * JPQL constructor expression for this projection over a Task aliased {@code t}.
+     */
+    public static final String SELECT = "new com.BenjaminPark.dto.TaskText(t.taskId, t.taskName, t.taskDescription)";
+}
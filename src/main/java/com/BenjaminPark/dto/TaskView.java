@@ -0,0 +1,27 @@
+package com.BenjaminPark.dto;
+
+import com.BenjaminPark.domain.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Read-only projection of a task, selected directly in JPQL.
+ * Carries exactly what a TaskResponse needs, without hydrating the entity or its owner.
+ *
+ * @param taskId id of the task.
+ * @param taskName name of the task.
+ * @param taskDescription description of the task, may be null.
+ * @param taskStatus status of the task.
+ * @param dueDate due date of the task, may be null.
+ * @param version version of the task, used as its ETag.
+ */
+public record TaskView(UUID taskId, String taskName, String taskDescription, TaskStatus taskStatus,
+                       LocalDate dueDate, long version) {
+
+    /**
+     * JPQL constructor expression for this projection over a Task aliased {@code t}.
+     */
+    public static final String SELECT = "new com.BenjaminPark.dto.TaskView("
+            + "t.taskId, t.taskName, t.taskDescription, t.taskStatus, t.dueDate, t.version)";
+}
@@ -0,0 +1,40 @@
+package com.BenjaminPark.dto;
+
+public class TokenResponse {
+    final String userId;
+    final String token;
+    final String expiresAt;
+
+    /**
+     * Creates new token response object.
+     * @param userId Id of the authenticated user.
+     * @param token Signed access token.
+     * @param expiresAt Expiry of the token as an ISO-8601 instant.
+     */
+    public TokenResponse(String userId, String token, String expiresAt) {
+        this.userId = userId;
+        this.token = token;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Returns userId of the authenticated user.
+     */
+    public String getUserId() {
+        return userId;
+    }
+
+    /**
+     * Returns the signed access token.
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Returns expiry of the token.
+     */
+    public String getExpiresAt() {
+        return expiresAt;
+    }
+}
@@ -0,0 +1,57 @@
+package com.BenjaminPark.event;
+
+import com.BenjaminPark.domain.Task;
+import com.BenjaminPark.domain.TaskDetails;
+
+import java.util.UUID;
+
+/**
+ * A change to an owner's tasks, published by TaskService.
+ * Listeners receive it after the change has committed.
+ *
+ * @param type kind of change.
+ * @param ownerId owner of the changed task(s).
+ * @param taskId changed task, or null for BULK_UPDATED.
+ * @param details new field values for CREATED and UPDATED, otherwise null.
+ */
+public record TaskEvent(Type type, UUID ownerId, UUID taskId, TaskDetails details) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        /** Several of the owner's tasks changed at once; listeners should re-read what they need. */
+        BULK_UPDATED
+    }
+
+    /**
+     * Returns the event for a newly created task.
+     * @param task the created task.
+     */
+    public static TaskEvent created(Task task) {
+        TaskDetails details = new TaskDetails(task.getTaskName(), task.getTaskDescription(),
+                task.getTaskStatus(), task.getDueDate().orElse(null));
+        return new TaskEvent(Type.CREATED, task.getOwner().getUserId(), task.getTaskId(), details);
+    }
+
+    /**
+     * Returns the event for an updated task.
+     */
+    public static TaskEvent updated(UUID ownerId, UUID taskId, TaskDetails details) {
+        return new TaskEvent(Type.UPDATED, ownerId, taskId, details);
+    }
+
+    /**
+     * Returns the event for a deleted task.
+     */
+    public static TaskEvent deleted(UUID ownerId, UUID taskId) {
+        return new TaskEvent(Type.DELETED, ownerId, taskId, null);
+    }
+
+    /**
+     * Returns the event for a set-based change to several of an owner's tasks.
+     */
+    public static TaskEvent bulkUpdated(UUID ownerId) {
+        return new TaskEvent(Type.BULK_UPDATED, ownerId, null, null);
+    }
+}
@@ -0,0 +1,192 @@
+package com.BenjaminPark.event;
+
+import com.BenjaminPark.mapper.TaskMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans task events out to Server-Sent Events subscribers, per owner.
+ * <p>
+ * Each subscriber has a small buffer of pending events keyed by taskId, so a burst of changes to one task
+ * collapses into its latest state. When a subscriber falls more than {@code tasktracker.feed.max-pending}
+ * tasks behind, its buffer is dropped and it receives a single {@code RESYNC} event instead. Publishing
+ * never blocks: events are handed to a virtual thread that writes to the connection, so slow clients
+ * only delay themselves and idle connections hold no thread at all.
+ * <p>
+ * Event names are the {@link TaskEvent.Type} values. {@code CREATED}/{@code UPDATED} carry a TaskResponse;
+ * because of coalescing, clients should treat {@code UPDATED} for an unknown task as an insert.
+ */
+@Component
+public class TaskFeed {
+
+    static final String RESYNC = "RESYNC";
+    private static final UUID BULK_KEY = new UUID(0L, 0L);
+
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final TaskMapper taskMapper;
+    private final Duration timeout;
+    private final int maxPending;
+    private final Counter dropped;
+
+    public TaskFeed(TaskMapper taskMapper,
+                    @Value("${tasktracker.feed.timeout:30m}") Duration timeout,
+                    @Value("${tasktracker.feed.max-pending:256}") int maxPending,
+                    MeterRegistry meterRegistry) {
+        this.taskMapper = taskMapper;
+        this.timeout = timeout;
+        this.maxPending = maxPending;
+        this.dropped = Counter.builder("tasktracker.feed.resyncs")
+                .description("Times a slow subscriber's buffer was dropped and replaced by a RESYNC event")
+                .register(meterRegistry);
+        Gauge.builder("tasktracker.feed.subscribers", subscriberCount, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a new event stream for the owner's tasks.
+     * @param ownerId owner whose task changes are streamed.
+     */
+    public SseEmitter subscribe(UUID ownerId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter);
+        subscribers.computeIfAbsent(ownerId, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscriberCount.incrementAndGet();
+        Runnable remove = () -> unsubscribe(ownerId, subscriber);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> remove.run());
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskEvent(TaskEvent event) {
+        Set<Subscriber> owned = subscribers.get(event.ownerId());
+        if (owned == null) {
+            return;
+        }
+        UUID key = event.taskId() == null ? BULK_KEY : event.taskId();
+        for (Subscriber subscriber : owned) {
+            subscriber.offer(key, event);
+        }
+    }
+
+    /**
+     * Sends a comment to every subscriber so proxies keep idle connections open and dead ones are detected.
+     */
+    @Scheduled(fixedRateString = "${tasktracker.feed.heartbeat:PT30S}")
+    public void heartbeat() {
+        for (Set<Subscriber> owned : subscribers.values()) {
+            for (Subscriber subscriber : owned) {
+                senders.execute(subscriber::heartbeat);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.values().forEach(owned -> owned.forEach(subscriber -> subscriber.emitter.complete()));
+        senders.shutdown();
+    }
+
+    private void unsubscribe(UUID ownerId, Subscriber subscriber) {
+        subscribers.computeIfPresent(ownerId, (key, owned) -> {
+            if (owned.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return owned.isEmpty() ? null : owned;
+        });
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Map<UUID, TaskEvent> pending = new ConcurrentHashMap<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean overflowed;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(UUID key, TaskEvent event) {
+            if (pending.size() >= maxPending && !pending.containsKey(key)) {
+                overflowed = true;
+                pending.clear();
+                dropped.increment();
+            } else {
+                pending.put(key, event);
+            }
+            signal();
+        }
+
+        private void signal() {
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                if (overflowed) {
+                    overflowed = false;
+                    pending.clear();
+                    emitter.send(SseEmitter.event().name(RESYNC).data(Map.of()));
+                }
+                for (UUID key : pending.keySet()) {
+                    TaskEvent event = pending.remove(key);
+                    if (event != null) {
+                        send(event);
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                emitter.completeWithError(e);
+                return;
+            } finally {
+                draining.set(false);
+            }
+            if (overflowed || !pending.isEmpty()) {
+                signal();
+            }
+        }
+
+        private void send(TaskEvent event) throws IOException {
+            SseEmitter.SseEventBuilder builder = SseEmitter.event().name(event.type().name());
+            switch (event.type()) {
+                case CREATED, UPDATED -> builder.id(event.taskId().toString())
+                        .data(taskMapper.toTaskResponse(event.taskId(), event.details()), MediaType.APPLICATION_JSON);
+                case DELETED -> builder.id(event.taskId().toString())
+                        .data(Map.of("taskId", event.taskId().toString()), MediaType.APPLICATION_JSON);
+                case BULK_UPDATED -> builder.data(Map.of(), MediaType.APPLICATION_JSON);
+            }
+            emitter.send(builder);
+        }
+
+        void heartbeat() {
+            try {
+                emitter.send(SseEmitter.event().comment("keepalive"));
+            } catch (IOException | IllegalStateException e) {
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
@@ -1,14 +1,22 @@
 package com.BenjaminPark.mapper;
 
 import com.BenjaminPark.domain.Task;
+import com.BenjaminPark.domain.TaskDetails;
 import com.BenjaminPark.domain.TaskStatus;
 import com.BenjaminPark.domain.User;
 import com.BenjaminPark.dto.CreateTaskDTO;
+import com.BenjaminPark.dto.TaskPageResponse;
 import com.BenjaminPark.dto.TaskResponse;
+import com.BenjaminPark.dto.TaskStatsResponse;
+import com.BenjaminPark.dto.TaskView;
 import com.BenjaminPark.dto.UpdateTaskDTO;
+import com.BenjaminPark.service.TaskPage;
+import com.BenjaminPark.service.TaskStats;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 
 import java.util.UUID;
@@ -44,6 +52,29 @@ public class TaskMapper {
         return task;
     }
 
+    /**
+     * Returns TaskDetails from UpdateTaskDTO.
+     * Note: If dueDate empty or null in updateTaskDTO, existing due date will be removed.
+     * @param updateTaskDTO UpdateTaskDTO to convert.
+     * @return new field values from UpdateTaskDTO.
+     */
+    public TaskDetails toTaskDetails(UpdateTaskDTO updateTaskDTO) {
+        return new TaskDetails(updateTaskDTO.getTaskName(), updateTaskDTO.getTaskDescription(),
+                TaskStatus.valueOf(updateTaskDTO.getTaskStatus()), parseDueDate(updateTaskDTO.getDueDate()));
+    }
+
+    /**
+     * Returns TaskResponse from a taskId and its field values.
+     * @param taskId Id of the task.
+     * @param details Field values of the task.
+     * @return TaskResponse from taskId and details.
+     */
+    public TaskResponse toTaskResponse(UUID taskId, TaskDetails details) {
+        String dueDateString = details.dueDate() == null ? null : details.dueDate().toString();
+        return new TaskResponse(taskId.toString(), details.taskName(), details.taskDescription(),
+                details.taskStatus().toString(), dueDateString);
+    }
+
     /**
      * Returns TaskResponse from Task entity.
      * @param task Task entity converter into TaskResponse.
@@ -56,6 +87,37 @@ public class TaskMapper {
                 dueDateString);
     }
 
+    /**
+     * Returns TaskResponse from a task projection.
+     * @param task Task projection converted into TaskResponse.
+     * @return TaskResponse from task.
+     */
+    public TaskResponse toTaskResponse(TaskView task) {
+        String dueDateString = task.dueDate() == null ? null : task.dueDate().toString();
+        return new TaskResponse(task.taskId().toString(), task.taskName(), task.taskDescription(),
+                task.taskStatus().toString(), dueDateString);
+    }
+
+    /**
+     * Returns TaskPageResponse from a page of task projections.
+     * @param page Page of tasks with the cursor for the next page.
+     * @return TaskPageResponse from page.
+     */
+    public TaskPageResponse toTaskPageResponse(TaskPage page) {
+        return new TaskPageResponse(page.tasks().stream().map(this::toTaskResponse).toList(), page.nextCursor());
+    }
+
+    /**
+     * Returns TaskStatsResponse from an owner's task counts.
+     * @param stats Task counts of an owner.
+     * @return TaskStatsResponse from stats.
+     */
+    public TaskStatsResponse toTaskStatsResponse(TaskStats stats) {
+        Map<String, Long> countsByStatus = new LinkedHashMap<>();
+        stats.countsByStatus().forEach((status, count) -> countsByStatus.put(status.toString(), count));
+        return new TaskStatsResponse(countsByStatus, stats.total(), stats.overdue(), stats.asOf().toString());
+    }
+
     /**
      * Returns dueDate as LocalDate if not null or empty
      * @param dueDate dueDate to be converted.
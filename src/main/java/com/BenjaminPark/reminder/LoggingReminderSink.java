@@ -0,0 +1,22 @@
+package com.BenjaminPark.reminder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Default sink that writes each reminder to the log.
+ */
+public class LoggingReminderSink implements ReminderSink {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingReminderSink.class);
+
+    @Override
+    public void deliver(List<Reminder> reminders) {
+        for (Reminder reminder : reminders) {
+            log.info("Reminder: task {} of user {} is due on {}", reminder.taskId(), reminder.ownerId(),
+                    reminder.dueDate());
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.BenjaminPark.reminder;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * A reminder that has come due.
+ *
+ * @param taskId task the reminder is for.
+ * @param ownerId owner of the task, who is reminded.
+ * @param dueDate due date of the task.
+ */
+public record Reminder(UUID taskId, UUID ownerId, LocalDate dueDate) {
+}
@@ -0,0 +1,245 @@
+package com.BenjaminPark.reminder;
+
+import com.BenjaminPark.domain.TaskStatus;
+import com.BenjaminPark.dto.TaskDue;
+import com.BenjaminPark.event.TaskEvent;
+import com.BenjaminPark.service.TaskService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Reminds owners of tasks that are coming due, using an in-memory {@link TimingWheel}.
+ * <p>
+ * Enabled with {@code tasktracker.reminders.enabled}. A task's reminder fires at {@code at} on its due date,
+ * brought forward by {@code lead}. Only tasks due in the next {@code horizon-days} days are held: they are
+ * loaded by a range scan after startup, the range is extended once a day, and task events keep the wheel
+ * current in between. Completed tasks and tasks without a due date have no reminder.
+ * <p>
+ * Delivery is at most once: reminders are only held in memory, so those that fall due while the
+ * application is down are not sent, and a reminder whose time has already passed is never scheduled.
+ * Due reminders go to the {@link ReminderSink} in batches of {@code batch-size}.
+ */
+@Component
+@ConditionalOnProperty(name = "tasktracker.reminders.enabled", havingValue = "true")
+public class ReminderScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(ReminderScheduler.class);
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final TaskService taskService;
+    private final ReminderSink sink;
+    private final Clock clock = Clock.systemDefaultZone();
+    private final LocalTime at;
+    private final Duration lead;
+    private final int horizonDays;
+    private final long tickMillis;
+    private final int batchSize;
+    private final TimingWheel wheel;
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("reminder-wheel").daemon().factory());
+    private final AtomicBoolean refilling = new AtomicBoolean();
+    private final Counter delivered;
+    private final Counter failed;
+
+    // Guarded by wheel.
+    private LocalDate loadedUntil;
+    private Set<UUID> changedWhileLoading;
+
+    public ReminderScheduler(TaskService taskService, ObjectProvider<ReminderSink> sinks,
+                             @Value("${tasktracker.reminders.at:09:00}") String at,
+                             @Value("${tasktracker.reminders.lead:0s}") Duration lead,
+                             @Value("${tasktracker.reminders.horizon-days:7}") int horizonDays,
+                             @Value("${tasktracker.reminders.tick:1m}") Duration tick,
+                             @Value("${tasktracker.reminders.wheel-size:16384}") int wheelSize,
+                             @Value("${tasktracker.reminders.batch-size:500}") int batchSize,
+                             MeterRegistry meterRegistry) {
+        this.taskService = taskService;
+        this.sink = sinks.getIfAvailable(LoggingReminderSink::new);
+        this.at = LocalTime.parse(at);
+        this.lead = lead;
+        this.horizonDays = horizonDays;
+        this.tickMillis = tick.toMillis();
+        this.batchSize = batchSize;
+        this.wheel = new TimingWheel(wheelSize, currentTick());
+        this.loadedUntil = LocalDate.now(clock);
+        this.delivered = Counter.builder("tasktracker.reminders.delivered").register(meterRegistry);
+        this.failed = Counter.builder("tasktracker.reminders.failed")
+                .description("Reminders in batches the sink failed to deliver")
+                .register(meterRegistry);
+        Gauge.builder("tasktracker.reminders.scheduled", this, ReminderScheduler::scheduled)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        Thread.ofVirtual().name("reminder-load").start(this::refill);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        ticker.shutdownNow();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskEvent(TaskEvent event) {
+        switch (event.type()) {
+            case CREATED, UPDATED -> {
+                synchronized (wheel) {
+                    markChanged(event.taskId());
+                    schedule(event.taskId(), event.ownerId(), event.details().taskStatus(), event.details().dueDate());
+                }
+            }
+            case DELETED -> {
+                synchronized (wheel) {
+                    markChanged(event.taskId());
+                    wheel.cancel(event.taskId());
+                }
+            }
+            case BULK_UPDATED -> rescheduleOwner(event.ownerId());
+        }
+    }
+
+    /**
+     * Extends the held range to {@code horizon-days} from today and loads the tasks due in the new part.
+     * Events arriving during the load win over the rows read for the same task.
+     */
+    @Scheduled(cron = "${tasktracker.reminders.refill-cron:0 5 0 * * *}")
+    public void refill() {
+        if (!refilling.compareAndSet(false, true)) {
+            return;
+        }
+        LocalDate from = null;
+        try {
+            LocalDate until = LocalDate.now(clock).plusDays(horizonDays);
+            synchronized (wheel) {
+                from = loadedUntil;
+                if (!until.isAfter(from)) {
+                    return;
+                }
+                loadedUntil = until;
+                changedWhileLoading = new HashSet<>();
+            }
+            List<TaskDue> batch = new ArrayList<>(LOAD_BATCH_SIZE);
+            taskService.streamTasksDueBetween(from, until, task -> {
+                batch.add(task);
+                if (batch.size() == LOAD_BATCH_SIZE) {
+                    scheduleLoaded(batch);
+                    batch.clear();
+                }
+            });
+            scheduleLoaded(batch);
+            log.info("Reminders loaded for tasks due from {} until {}; {} scheduled", from, until, scheduled());
+        } catch (RuntimeException e) {
+            if (from != null) {
+                // Hand the range back so the next refill loads it again; rows already scheduled are replaced.
+                synchronized (wheel) {
+                    loadedUntil = from;
+                }
+            }
+            log.error("Loading reminders failed; the range will be loaded again by the next refill", e);
+        } finally {
+            synchronized (wheel) {
+                changedWhileLoading = null;
+            }
+            refilling.set(false);
+        }
+    }
+
+    /**
+     * Fires every reminder that has come due and hands them to the sink in batches.
+     */
+    void tick() {
+        List<Reminder> due = new ArrayList<>();
+        synchronized (wheel) {
+            wheel.advance(currentTick(), due::add);
+        }
+        for (int start = 0; start < due.size(); start += batchSize) {
+            List<Reminder> batch = due.subList(start, Math.min(start + batchSize, due.size()));
+            try {
+                sink.deliver(batch);
+                delivered.increment(batch.size());
+            } catch (RuntimeException e) {
+                failed.increment(batch.size());
+                log.warn("Reminder sink failed to deliver {} reminders", batch.size(), e);
+            }
+        }
+    }
+
+    private void rescheduleOwner(UUID ownerId) {
+        LocalDate today = LocalDate.now(clock);
+        LocalDate until;
+        synchronized (wheel) {
+            until = loadedUntil;
+        }
+        List<TaskDue> tasks = taskService.getTasksDueBetween(ownerId, today, until);
+        synchronized (wheel) {
+            for (TaskDue task : tasks) {
+                schedule(task.taskId(), task.ownerId(), task.taskStatus(), task.dueDate());
+            }
+        }
+    }
+
+    private void scheduleLoaded(List<TaskDue> tasks) {
+        synchronized (wheel) {
+            for (TaskDue task : tasks) {
+                if (!changedWhileLoading.contains(task.taskId())) {
+                    schedule(task.taskId(), task.ownerId(), task.taskStatus(), task.dueDate());
+                }
+            }
+        }
+    }
+
+    // Caller holds the wheel lock.
+    private void schedule(UUID taskId, UUID ownerId, TaskStatus status, LocalDate dueDate) {
+        if (status == TaskStatus.COMPLETED || dueDate == null || !dueDate.isBefore(loadedUntil)) {
+            wheel.cancel(taskId);
+            return;
+        }
+        long remindAt = dueDate.atTime(at).minus(lead).atZone(clock.getZone()).toInstant().toEpochMilli();
+        wheel.schedule(taskId, ownerId, dueDate, Math.ceilDiv(remindAt, tickMillis));
+    }
+
+    // Caller holds the wheel lock.
+    private void markChanged(UUID taskId) {
+        if (changedWhileLoading != null) {
+            changedWhileLoading.add(taskId);
+        }
+    }
+
+    private long currentTick() {
+        return clock.millis() / tickMillis;
+    }
+
+    private int scheduled() {
+        synchronized (wheel) {
+            return wheel.size();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.BenjaminPark.reminder;
+
+import java.util.List;
+
+/**
+ * Delivers reminders that have come due, for example by email or push notification.
+ * <p>
+ * Declare a bean of this type to replace the default, which only logs. Batches are delivered one at a
+ * time from the reminder thread, so a slow sink delays later reminders; an exception is logged and the
+ * batch is not retried.
+ */
+public interface ReminderSink {
+
+    /**
+     * Delivers a batch of reminders.
+     * @param reminders reminders that came due, at most {@code tasktracker.reminders.batch-size} of them.
+     */
+    void deliver(List<Reminder> reminders);
+}
@@ -0,0 +1,190 @@
+package com.BenjaminPark.reminder;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel of reminders, keyed by taskId. Not thread-safe.
+ * <p>
+ * Time is counted in ticks. A reminder due at tick {@code t} sits in slot {@code t & mask}; advancing the
+ * wheel visits each slot passed and fires the reminders whose tick has been reached, leaving those due in a
+ * later rotation. Slots are doubly linked lists and the taskId lookup is a chained hash table threaded
+ * through the same nodes, so scheduling and cancelling are O(1).
+ * <p>
+ * Each node holds its ids as primitive longs rather than UUID objects, keeping a scheduled reminder at
+ * about 80 bytes including its share of the hash table.
+ */
+final class TimingWheel {
+
+    private static final int INITIAL_BUCKETS = 1024;
+
+    private static final class Node {
+        final long taskMsb;
+        final long taskLsb;
+        final long ownerMsb;
+        final long ownerLsb;
+        final long deadline;
+        final int dueEpochDay;
+        Node prev;
+        Node next;
+        Node nextInBucket;
+
+        Node(UUID taskId, UUID ownerId, LocalDate dueDate, long deadline) {
+            this.taskMsb = taskId.getMostSignificantBits();
+            this.taskLsb = taskId.getLeastSignificantBits();
+            this.ownerMsb = ownerId.getMostSignificantBits();
+            this.ownerLsb = ownerId.getLeastSignificantBits();
+            this.dueEpochDay = (int) dueDate.toEpochDay();
+            this.deadline = deadline;
+        }
+
+        boolean isTask(long msb, long lsb) {
+            return taskMsb == msb && taskLsb == lsb;
+        }
+
+        Reminder toReminder() {
+            return new Reminder(new UUID(taskMsb, taskLsb), new UUID(ownerMsb, ownerLsb),
+                    LocalDate.ofEpochDay(dueEpochDay));
+        }
+    }
+
+    private final Node[] slots;
+    private final int mask;
+    private Node[] buckets = new Node[INITIAL_BUCKETS];
+    private int size;
+    private long currentTick;
+
+    /**
+     * @param wheelSize number of slots, a power of two.
+     * @param startTick tick the wheel starts at; reminders due at or before it are not scheduled.
+     */
+    TimingWheel(int wheelSize, long startTick) {
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of two: " + wheelSize);
+        }
+        this.slots = new Node[wheelSize];
+        this.mask = wheelSize - 1;
+        this.currentTick = startTick;
+    }
+
+    /**
+     * Schedules a reminder for the task, replacing any it already has.
+     * @param deadline tick at which the reminder fires.
+     * @return false if the deadline has already passed, in which case the task has no reminder afterwards.
+     */
+    boolean schedule(UUID taskId, UUID ownerId, LocalDate dueDate, long deadline) {
+        cancel(taskId);
+        if (deadline <= currentTick) {
+            return false;
+        }
+        Node node = new Node(taskId, ownerId, dueDate, deadline);
+        int slot = (int) (deadline & mask);
+        node.next = slots[slot];
+        if (node.next != null) {
+            node.next.prev = node;
+        }
+        slots[slot] = node;
+
+        if (size >= buckets.length) {
+            resize();
+        }
+        int bucket = bucket(node.taskMsb, node.taskLsb, buckets.length);
+        node.nextInBucket = buckets[bucket];
+        buckets[bucket] = node;
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes the task's reminder, if it has one.
+     * @return whether a reminder was removed.
+     */
+    boolean cancel(UUID taskId) {
+        return remove(taskId.getMostSignificantBits(), taskId.getLeastSignificantBits());
+    }
+
+    private boolean remove(long msb, long lsb) {
+        int bucket = bucket(msb, lsb, buckets.length);
+        Node previous = null;
+        for (Node node = buckets[bucket]; node != null; previous = node, node = node.nextInBucket) {
+            if (node.isTask(msb, lsb)) {
+                if (previous == null) {
+                    buckets[bucket] = node.nextInBucket;
+                } else {
+                    previous.nextInBucket = node.nextInBucket;
+                }
+                unlinkFromSlot(node);
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Moves the wheel forward and removes every reminder due by then.
+     * @param toTick tick to advance to; nothing happens if it is not after the current tick.
+     * @param expired receives each reminder that came due.
+     */
+    void advance(long toTick, Consumer<Reminder> expired) {
+        if (toTick <= currentTick) {
+            return;
+        }
+        // After a full rotation every slot has been visited, so a long pause costs at most one rotation.
+        long steps = Math.min(toTick - currentTick, slots.length);
+        for (long tick = currentTick + 1; tick <= currentTick + steps; tick++) {
+            Node node = slots[(int) (tick & mask)];
+            while (node != null) {
+                Node next = node.next;
+                if (node.deadline <= toTick) {
+                    remove(node.taskMsb, node.taskLsb);
+                    expired.accept(node.toReminder());
+                }
+                node = next;
+            }
+        }
+        currentTick = toTick;
+    }
+
+    /**
+     * Returns the number of scheduled reminders.
+     */
+    int size() {
+        return size;
+    }
+
+    private void unlinkFromSlot(Node node) {
+        if (node.prev != null) {
+            node.prev.next = node.next;
+        } else {
+            slots[(int) (node.deadline & mask)] = node.next;
+        }
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+    }
+
+    private void resize() {
+        Node[] resized = new Node[buckets.length * 2];
+        for (Node head : buckets) {
+            Node node = head;
+            while (node != null) {
+                Node next = node.nextInBucket;
+                int bucket = bucket(node.taskMsb, node.taskLsb, resized.length);
+                node.nextInBucket = resized[bucket];
+                resized[bucket] = node;
+                node = next;
+            }
+        }
+        buckets = resized;
+    }
+
+    private static int bucket(long msb, long lsb, int length) {
+        long hash = msb ^ lsb;
+        int mixed = (int) (hash ^ (hash >>> 32));
+        return (mixed ^ (mixed >>> 16)) & (length - 1);
+    }
+}
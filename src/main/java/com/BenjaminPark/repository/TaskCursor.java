@@ -0,0 +1,47 @@
+package com.BenjaminPark.repository;
+
+import com.BenjaminPark.exceptions.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position within an owner's task listing.
+ * Holds the sort key and taskId of the last task returned, so the next page can seek
+ * directly past it instead of skipping rows with OFFSET.
+ *
+ * @param sortKey sort key of the last task returned.
+ * @param taskId taskId of the last task returned, used as tie-breaker.
+ */
+public record TaskCursor(String sortKey, UUID taskId) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Returns this cursor as an opaque, URL-safe token.
+     */
+    public String encode() {
+        String raw = taskId.toString() + SEPARATOR + sortKey;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parses a token previously produced by {@link #encode()}.
+     * @param token opaque cursor token.
+     * @return decoded cursor.
+     * @throws InvalidCursorException if the token is malformed.
+     */
+    public static TaskCursor decode(String token) throws InvalidCursorException {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException("Malformed cursor.");
+            }
+            return new TaskCursor(raw.substring(separator + 1), UUID.fromString(raw.substring(0, separator)));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Malformed cursor.");
+        }
+    }
+}
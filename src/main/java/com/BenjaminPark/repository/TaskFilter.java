@@ -0,0 +1,29 @@
+package com.BenjaminPark.repository;
+
+import com.BenjaminPark.domain.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Criteria for listing an owner's tasks. Null or empty fields are not filtered on.
+ *
+ * @param statuses statuses to include.
+ * @param dueFrom earliest due date to include, inclusive.
+ * @param dueTo latest due date to include, inclusive.
+ * @param namePrefix prefix the taskName must start with.
+ * @param sort ordering of the results.
+ */
+public record TaskFilter(Set<TaskStatus> statuses, LocalDate dueFrom, LocalDate dueTo, String namePrefix,
+                         TaskSort sort) {
+
+    /**
+     * Filter matching every task, ordered by name.
+     */
+    public static final TaskFilter ALL = new TaskFilter(Set.of(), null, null, null, TaskSort.NAME);
+
+    public TaskFilter {
+        statuses = statuses == null ? Set.of() : Set.copyOf(statuses);
+        sort = sort == null ? TaskSort.NAME : sort;
+    }
+}
@@ -1,11 +1,134 @@
 package com.BenjaminPark.repository;
 
 import com.BenjaminPark.domain.Task;
+import com.BenjaminPark.domain.TaskStatus;
+import com.BenjaminPark.dto.TaskDue;
+import com.BenjaminPark.dto.TaskRef;
+import com.BenjaminPark.dto.TaskStatusView;
+import com.BenjaminPark.dto.TaskText;
+import com.BenjaminPark.dto.TaskView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
-public interface TaskRepository extends JpaRepository<Task, UUID> {
+public interface TaskRepository extends JpaRepository<Task, UUID>, TaskRepositoryCustom {
     List<Task> findByOwner_userId(UUID owner_id);
+
+    /**
+     * Returns the projection of a single task without loading the entity or its owner.
+     */
+    @Query("select " + TaskView.SELECT + " from Task t where t.taskId = :taskId")
+    Optional<TaskView> findViewByTaskId(@Param("taskId") UUID taskId);
+
+    /**
+     * Returns the projections of the given tasks that belong to the owner, in no particular order.
+     */
+    @Query("select " + TaskView.SELECT + " from Task t where t.owner.userId = :ownerId and t.taskId in :taskIds")
+    List<TaskView> findViewsByOwnerAndTaskIds(@Param("ownerId") UUID ownerId, @Param("taskIds") Collection<UUID> taskIds);
+
+    /**
+     * Returns the searchable text of every task of an owner.
+     */
+    @Query("select " + TaskText.SELECT + " from Task t where t.owner.userId = :ownerId")
+    List<TaskText> findTextByOwner(@Param("ownerId") UUID ownerId);
+
+    /**
+     * Returns the status and due date of every task of an owner.
+     */
+    @Query("select " + TaskStatusView.SELECT + " from Task t where t.owner.userId = :ownerId")
+    List<TaskStatusView> findStatusViewsByOwner(@Param("ownerId") UUID ownerId);
+
+    /**
+     * Returns only the version of a task, for conditional requests.
+     */
+    @Query("select t.version from Task t where t.taskId = :taskId")
+    Optional<Long> findVersionByTaskId(@Param("taskId") UUID taskId);
+
+    /**
+     * Returns the version of a task if it belongs to the given owner.
+     */
+    @Query("select t.version from Task t where t.taskId = :taskId and t.owner.userId = :ownerId")
+    Optional<Long> findVersionByTaskIdAndOwner(@Param("taskId") UUID taskId, @Param("ownerId") UUID ownerId);
+
+    /**
+     * Returns the owner's tasks in every status with a due date in [from, before).
+     */
+    @Query("select " + TaskDue.SELECT + """
+             from Task t
+            where t.owner.userId = :ownerId and t.dueDate >= :from and t.dueDate < :before""")
+    List<TaskDue> findDueByOwnerBetween(@Param("ownerId") UUID ownerId, @Param("from") LocalDate from,
+                                        @Param("before") LocalDate before);
+
+    /**
+     * Moves all of an owner's tasks in one status to another in a single UPDATE.
+     * @param dueBefore if not null, only tasks due strictly before this date are changed.
+     * @return number of tasks changed.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Task t set t.taskStatus = :toStatus, t.version = t.version + 1
+            where t.owner.userId = :ownerId
+              and t.taskStatus = :fromStatus
+              and (:dueBefore is null or t.dueDate < :dueBefore)""")
+    int updateStatusByOwner(@Param("ownerId") UUID ownerId, @Param("fromStatus") TaskStatus fromStatus,
+                            @Param("toStatus") TaskStatus toStatus, @Param("dueBefore") LocalDate dueBefore);
+
+    /**
+     * Returns the earliest-due tasks in a status that are due before the given date.
+     * Served by a range scan on the (taskStatus, dueDate, taskId) index.
+     */
+    @Query("select " + TaskRef.SELECT + """
+             from Task t
+            where t.taskStatus = :status and t.dueDate < :before
+            order by t.dueDate, t.taskId""")
+    List<TaskRef> findRefsByStatusDueBefore(@Param("status") TaskStatus status, @Param("before") LocalDate before,
+                                            Limit limit);
+
+    /**
+     * Moves the given tasks from one status to another, skipping any no longer in the first status.
+     * @return number of tasks changed.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Task t set t.taskStatus = :toStatus, t.version = t.version + 1
+            where t.taskId in :taskIds and t.taskStatus = :fromStatus""")
+    int updateStatusOfTasks(@Param("taskIds") Collection<UUID> taskIds, @Param("fromStatus") TaskStatus fromStatus,
+                            @Param("toStatus") TaskStatus toStatus);
+
+    /**
+     * Overwrites the editable fields of a task if, and only if, it belongs to the given owner
+     * and, when expectedVersion is not null, is still at that version.
+     * @return 1 if the task was updated, 0 if it does not exist, belongs to someone else or has changed.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Task t
+            set t.taskName = :taskName, t.taskDescription = :taskDescription,
+                t.taskStatus = :taskStatus, t.dueDate = :dueDate, t.version = t.version + 1
+            where t.taskId = :taskId and t.owner.userId = :ownerId
+              and (:expectedVersion is null or t.version = :expectedVersion)""")
+    int updateOwnedTask(@Param("taskId") UUID taskId, @Param("ownerId") UUID ownerId,
+                        @Param("taskName") String taskName, @Param("taskDescription") String taskDescription,
+                        @Param("taskStatus") TaskStatus taskStatus, @Param("dueDate") LocalDate dueDate,
+                        @Param("expectedVersion") Long expectedVersion);
+
+    /**
+     * Deletes a task if, and only if, it belongs to the given owner.
+     * @return 1 if the task was deleted, 0 if it does not exist or belongs to someone else.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Task t where t.taskId = :taskId and t.owner.userId = :ownerId")
+    int deleteOwnedTask(@Param("taskId") UUID taskId, @Param("ownerId") UUID ownerId);
 }
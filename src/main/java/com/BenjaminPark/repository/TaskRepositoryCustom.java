@@ -0,0 +1,59 @@
+package com.BenjaminPark.repository;
+
+import com.BenjaminPark.domain.Task;
+import com.BenjaminPark.dto.TaskDue;
+import com.BenjaminPark.dto.TaskView;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Task repository operations that need direct access to the EntityManager.
+ */
+public interface TaskRepositoryCustom {
+
+    /**
+     * Inserts new tasks using JDBC batching.
+     * Tasks are persisted directly rather than merged, so no SELECT is issued per task.
+     * @param tasks new tasks with assigned ids.
+     */
+    void persistAll(List<Task> tasks);
+
+    /**
+     * Returns projections of the owner's tasks matching the filter that sort after the cursor position.
+     * Pages are located by seeking on (sort key, taskId), never with OFFSET.
+     * @param ownerId owner of the tasks.
+     * @param filter filter and ordering.
+     * @param after position of the last task already returned, or null for the first page.
+     * @param limit maximum number of tasks to return.
+     */
+    List<TaskView> findPage(UUID ownerId, TaskFilter filter, TaskCursor after, int limit);
+
+    /**
+     * Returns projections of tasks not yet completed with a due date in [from, before), ordered by
+     * (dueDate, taskId) and seeking past the cursor position.
+     * Served by range scans on the (owner_id, dueDate, taskId) or (dueDate, taskId) index.
+     * @param ownerId owner of the tasks, or null for every owner.
+     * @param from earliest due date to include, or null for no lower bound.
+     * @param before due date to stop before.
+     * @param after position of the last task already returned, or null for the first page.
+     * @param limit maximum number of tasks to return.
+     */
+    List<TaskView> findDue(UUID ownerId, LocalDate from, LocalDate before, TaskCursor after, int limit);
+
+    /**
+     * Streams the projection of every task of an owner with a forward-only cursor.
+     * Projections are not managed, so the persistence context does not grow while streaming.
+     * Must be consumed inside a transaction and closed afterwards.
+     * @param ownerId owner of the tasks.
+     */
+    Stream<TaskView> streamByOwner(UUID ownerId);
+
+    /**
+     * Streams the tasks not yet completed with a due date in [from, before), using a forward-only cursor
+     * over the (dueDate, taskId) index. Must be consumed inside a transaction and closed afterwards.
+     */
+    Stream<TaskDue> streamDueBetween(LocalDate from, LocalDate before);
+}
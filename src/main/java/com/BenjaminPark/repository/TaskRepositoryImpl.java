@@ -0,0 +1,204 @@
+package com.BenjaminPark.repository;
+
+import com.BenjaminPark.domain.Task;
+import com.BenjaminPark.domain.TaskStatus;
+import com.BenjaminPark.dto.TaskDue;
+import com.BenjaminPark.dto.TaskView;
+import com.BenjaminPark.exceptions.InvalidCursorException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+    /**
+     * Fetch size of the streaming queries on MySQL. Connector/J streams rows one at a time for a statement
+     * with this fetch size, without server-side cursors, so other statements keep the default behaviour.
+     * While such a stream is open its connection cannot run other statements. Other drivers reject a
+     * negative fetch size.
+     */
+    private static final int MYSQL_STREAM_FETCH_SIZE = Integer.MIN_VALUE;
+
+    /**
+     * Fetch size of the streaming queries on other databases, whose drivers honour a positive fetch size.
+     */
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int batchSize;
+
+    TaskRepositoryImpl(@Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Transactional
+    public void persistAll(List<Task> tasks) {
+        for (int i = 0; i < tasks.size(); i++) {
+            entityManager.persist(tasks.get(i));
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Override
+    public List<TaskView> findPage(UUID ownerId, TaskFilter filter, TaskCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskView> query = cb.createQuery(TaskView.class);
+        Root<Task> task = query.from(Task.class);
+        Path<UUID> taskId = task.get("taskId");
+        Path<String> taskName = task.get("taskName");
+        Path<LocalDate> dueDate = task.get("dueDate");
+        Path<TaskStatus> taskStatus = task.get("taskStatus");
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(task.get("owner").get("userId"), ownerId));
+        if (!filter.statuses().isEmpty()) {
+            predicates.add(taskStatus.in(filter.statuses()));
+        }
+        if (filter.dueFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(dueDate, filter.dueFrom()));
+        }
+        if (filter.dueTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(dueDate, filter.dueTo()));
+        }
+        if (filter.namePrefix() != null && !filter.namePrefix().isEmpty()) {
+            predicates.add(cb.like(taskName, escapeLike(filter.namePrefix()) + "%", '\\'));
+        }
+
+        switch (filter.sort()) {
+            case NAME -> {
+                if (after != null) {
+                    predicates.add(cb.or(
+                            cb.greaterThan(taskName, after.sortKey()),
+                            cb.and(cb.equal(taskName, after.sortKey()), cb.greaterThan(taskId, after.taskId()))));
+                }
+                query.orderBy(cb.asc(taskName), cb.asc(taskId));
+            }
+            case DUE_DATE -> {
+                if (after != null) {
+                    LocalDate afterDue = parseDueDateKey(after.sortKey());
+                    if (afterDue == null) {
+                        predicates.add(cb.or(
+                                cb.and(cb.isNull(dueDate), cb.greaterThan(taskId, after.taskId())),
+                                cb.isNotNull(dueDate)));
+                    } else {
+                        predicates.add(cb.or(
+                                cb.greaterThan(dueDate, afterDue),
+                                cb.and(cb.equal(dueDate, afterDue), cb.greaterThan(taskId, after.taskId()))));
+                    }
+                }
+                // Ascending order puts NULL due dates first on MySQL and H2, matching the seek predicate.
+                query.orderBy(cb.asc(dueDate), cb.asc(taskId));
+            }
+        }
+
+        query.select(cb.construct(TaskView.class, taskId, taskName, task.get("taskDescription"), taskStatus, dueDate,
+                        task.get("version")))
+                .where(predicates.toArray(Predicate[]::new));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<TaskView> findDue(UUID ownerId, LocalDate from, LocalDate before, TaskCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskView> query = cb.createQuery(TaskView.class);
+        Root<Task> task = query.from(Task.class);
+        Path<UUID> taskId = task.get("taskId");
+        Path<LocalDate> dueDate = task.get("dueDate");
+        Path<TaskStatus> taskStatus = task.get("taskStatus");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (ownerId != null) {
+            predicates.add(cb.equal(task.get("owner").get("userId"), ownerId));
+        }
+        if (from != null) {
+            predicates.add(cb.greaterThanOrEqualTo(dueDate, from));
+        }
+        predicates.add(cb.lessThan(dueDate, before));
+        predicates.add(cb.notEqual(taskStatus, TaskStatus.COMPLETED));
+        if (after != null) {
+            LocalDate afterDue = parseDueDateKey(after.sortKey());
+            if (afterDue == null) {
+                throw new InvalidCursorException("Cursor does not match the requested sort.");
+            }
+            predicates.add(cb.or(
+                    cb.greaterThan(dueDate, afterDue),
+                    cb.and(cb.equal(dueDate, afterDue), cb.greaterThan(taskId, after.taskId()))));
+        }
+
+        query.select(cb.construct(TaskView.class, taskId, task.get("taskName"), task.get("taskDescription"), taskStatus,
+                        dueDate, task.get("version")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(dueDate), cb.asc(taskId));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    private static LocalDate parseDueDateKey(String key) {
+        if (key.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new InvalidCursorException("Cursor does not match the requested sort.");
+        }
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    @Override
+    public Stream<TaskView> streamByOwner(UUID ownerId) {
+        return stream(entityManager.createQuery(
+                        "select " + TaskView.SELECT + " from Task t where t.owner.userId = :ownerId", TaskView.class)
+                .setParameter("ownerId", ownerId));
+    }
+
+    @Override
+    public Stream<TaskDue> streamDueBetween(LocalDate from, LocalDate before) {
+        return stream(entityManager.createQuery("select " + TaskDue.SELECT + """
+                 from Task t
+                where t.dueDate >= :from and t.dueDate < :before
+                  and t.taskStatus <> com.BenjaminPark.domain.TaskStatus.COMPLETED""", TaskDue.class)
+                .setParameter("from", from)
+                .setParameter("before", before));
+    }
+
+    private <T> Stream<T> stream(TypedQuery<T> query) {
+        return query.setHint(HibernateHints.HINT_FETCH_SIZE, streamFetchSize())
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private int streamFetchSize() {
+        SessionFactoryImplementor sessionFactory =
+                entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+        return sessionFactory.getJdbcServices().getDialect() instanceof MySQLDialect
+                ? MYSQL_STREAM_FETCH_SIZE : STREAM_FETCH_SIZE;
+    }
+}
@@ -0,0 +1,24 @@
+package com.BenjaminPark.repository;
+
+import com.BenjaminPark.dto.TaskView;
+
+/**
+ * Orderings supported by the task listing. Every ordering uses taskId as the final tie-breaker.
+ */
+public enum TaskSort {
+    /** By taskName ascending. */
+    NAME,
+    /** By dueDate ascending; tasks without a due date come first. */
+    DUE_DATE;
+
+    /**
+     * Returns the cursor sort key of a task under this ordering.
+     * @param task task to read the key from.
+     */
+    public String sortKey(TaskView task) {
+        return switch (this) {
+            case NAME -> task.taskName();
+            case DUE_DATE -> task.dueDate() == null ? "" : task.dueDate().toString();
+        };
+    }
+}
@@ -2,7 +2,12 @@ package com.BenjaminPark.repository;
 
 import com.BenjaminPark.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,5 +16,27 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByUsername(String username);
 
     boolean existsByUsername(String username);
+
+    /**
+     * Returns the id of every user without loading the users.
+     */
+    @Query("select u.userId from User u")
+    List<UUID> findAllUserIds();
+
+    /**
+     * Returns only the version of a user, for conditional requests.
+     */
+    @Query("select u.version from User u where u.userId = :userId")
+    Optional<Long> findVersionByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Replaces the password hash of a user without incrementing its version, so rehashing on login
+     * does not invalidate ETags clients already hold.
+     * @return number of users updated, 0 if no user has this id.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update User u set u.userPassword = :hashedPassword where u.userId = :userId")
+    int updatePasswordHash(@Param("userId") UUID userId, @Param("hashedPassword") String hashedPassword);
     
 }
@@ -0,0 +1,199 @@
+package com.BenjaminPark.search;
+
+import com.BenjaminPark.dto.TaskText;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Inverted index over the tasks of one owner.
+ * <p>
+ * Terms are kept sorted so a prefix selects a contiguous range. Each posting holds the weighted number
+ * of times the term occurs in a task, with words in the name counting NAME_WEIGHT times.
+ * <p>
+ * An index starts out loading: changes applied before {@link #loadIfNeeded} has read the tasks are
+ * remembered, and the loaded rows for those tasks are skipped so an older database read cannot overwrite a
+ * newer change.
+ */
+final class OwnerIndex {
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int EXACT_MATCH_BOOST = 2;
+
+    private static final Comparator<Map.Entry<UUID, Integer>> RANKING =
+            Map.Entry.<UUID, Integer>comparingByValue().thenComparing(Map.Entry.<UUID, Integer>comparingByKey().reversed());
+
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Map<UUID, Integer>> postings = new TreeMap<>();
+    private final Map<UUID, Set<String>> termsByTask = new HashMap<>();
+    private Set<UUID> changedWhileLoading = new HashSet<>();
+
+    /**
+     * Returns whether the owner's tasks have been loaded from the database.
+     */
+    boolean isLoaded() {
+        lock.readLock().lock();
+        try {
+            return changedWhileLoading == null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reads the owner's tasks and adds them, unless this has already been done.
+     * One caller reads while the others wait; a lock rather than a monitor, so a virtual thread waiting
+     * on the database read does not pin its carrier.
+     * @param reader reads every task of the owner from the database.
+     */
+    void loadIfNeeded(Supplier<List<TaskText>> reader) {
+        if (isLoaded()) {
+            return;
+        }
+        loadLock.lock();
+        try {
+            if (!isLoaded()) {
+                load(reader.get());
+            }
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Adds the owner's tasks as read from the database, except those changed since loading started.
+     * @param texts every task of the owner.
+     */
+    private void load(List<TaskText> texts) {
+        lock.writeLock().lock();
+        try {
+            for (TaskText text : texts) {
+                if (!changedWhileLoading.contains(text.taskId())) {
+                    add(text.taskId(), text.taskName(), text.taskDescription());
+                }
+            }
+            changedWhileLoading = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Indexes a new task or replaces the indexed text of an existing one.
+     */
+    void put(UUID taskId, String taskName, String taskDescription) {
+        lock.writeLock().lock();
+        try {
+            markChanged(taskId);
+            removeTerms(taskId);
+            add(taskId, taskName, taskDescription);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a task from the index.
+     */
+    void remove(UUID taskId) {
+        lock.writeLock().lock();
+        try {
+            markChanged(taskId);
+            removeTerms(taskId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of the best matching tasks, best first.
+     * Every query token must match a word of the task, either exactly or as a prefix. A task scores the
+     * best weight it reaches for each token, doubled for exact matches, summed over the tokens.
+     * @param tokens distinct query tokens, not empty.
+     * @param limit maximum number of results.
+     */
+    List<UUID> search(List<String> tokens, int limit) {
+        lock.readLock().lock();
+        try {
+            Map<UUID, Integer> scores = null;
+            for (String token : tokens) {
+                Map<UUID, Integer> tokenScores = new HashMap<>();
+                for (Map.Entry<String, Map<UUID, Integer>> term
+                        : postings.subMap(token, true, token + Character.MAX_VALUE, false).entrySet()) {
+                    int boost = term.getKey().length() == token.length() ? EXACT_MATCH_BOOST : 1;
+                    term.getValue().forEach((taskId, weight) -> tokenScores.merge(taskId, weight * boost, Math::max));
+                }
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    scores.keySet().retainAll(tokenScores.keySet());
+                    scores.replaceAll((taskId, score) -> score + tokenScores.get(taskId));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+            return topK(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<UUID> topK(Map<UUID, Integer> scores, int limit) {
+        PriorityQueue<Map.Entry<UUID, Integer>> best = new PriorityQueue<>(limit + 1, RANKING);
+        for (Map.Entry<UUID, Integer> score : scores.entrySet()) {
+            best.offer(score);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        List<UUID> ranked = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            ranked.add(best.poll().getKey());
+        }
+        return ranked.reversed();
+    }
+
+    private void markChanged(UUID taskId) {
+        if (changedWhileLoading != null) {
+            changedWhileLoading.add(taskId);
+        }
+    }
+
+    private void add(UUID taskId, String taskName, String taskDescription) {
+        Map<String, Integer> weights = new HashMap<>();
+        Tokenizer.tokenize(taskName).forEach(term -> weights.merge(term, NAME_WEIGHT, Integer::sum));
+        Tokenizer.tokenize(taskDescription).forEach(term -> weights.merge(term, DESCRIPTION_WEIGHT, Integer::sum));
+        weights.forEach((term, weight) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(taskId, weight));
+        termsByTask.put(taskId, weights.keySet());
+    }
+
+    private void removeTerms(UUID taskId) {
+        Set<String> terms = termsByTask.remove(taskId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<UUID, Integer> tasks = postings.get(term);
+            tasks.remove(taskId);
+            if (tasks.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+}
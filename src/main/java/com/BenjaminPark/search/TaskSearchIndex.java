@@ -0,0 +1,128 @@
+package com.BenjaminPark.search;
+
+import com.BenjaminPark.event.TaskEvent;
+import com.BenjaminPark.repository.TaskRepository;
+import com.BenjaminPark.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory full-text index over task names and descriptions, one {@link OwnerIndex} per owner.
+ * <p>
+ * Kept current from committed task events. After startup every owner is loaded from the database in the
+ * background until {@code tasktracker.search.rebuild-timeout} runs out; owners not reached by then are
+ * loaded on their first search instead.
+ * <p>
+ * Events only reach the node that made the change, so with several instances an index misses the others'
+ * writes. Every {@code tasktracker.search.reconcile-interval} all owners are dropped and rebuilt the same
+ * way as at startup, which bounds that drift; search results on one node may lag writes made on another
+ * by up to the interval.
+ */
+@Component
+public class TaskSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSearchIndex.class);
+    private static final int MAX_QUERY_TOKENS = 8;
+
+    private final Map<UUID, OwnerIndex> owners = new ConcurrentHashMap<>();
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final Duration rebuildTimeout;
+
+    public TaskSearchIndex(TaskRepository taskRepository, UserRepository userRepository,
+                           @Value("${tasktracker.search.rebuild-timeout:60s}") Duration rebuildTimeout,
+                           MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.rebuildTimeout = rebuildTimeout;
+        Gauge.builder("tasktracker.search.owners", owners, Map::size)
+                .description("Owners with an in-memory search index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the ids of the owner's tasks that best match the query, best first.
+     * @param ownerId owner whose tasks are searched.
+     * @param query words to look for; each must match a word of the task or be a prefix of one.
+     * @param limit maximum number of results.
+     */
+    public List<UUID> search(UUID ownerId, String query, int limit) {
+        List<String> tokens = Tokenizer.tokenize(query).stream().distinct().limit(MAX_QUERY_TOKENS).toList();
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        return loadedIndex(ownerId).search(tokens, limit);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskEvent(TaskEvent event) {
+        OwnerIndex index = owners.get(event.ownerId());
+        if (index == null) {
+            // Not indexed yet; the owner's tasks are read from the database on first search.
+            return;
+        }
+        switch (event.type()) {
+            case CREATED, UPDATED -> index.put(event.taskId(), event.details().taskName(),
+                    event.details().taskDescription());
+            case DELETED -> index.remove(event.taskId());
+            case BULK_UPDATED -> {
+                // Only statuses change in bulk; the indexed text is unaffected.
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        Thread.ofVirtual().name("task-search-rebuild").start(this::rebuild);
+    }
+
+    @Scheduled(fixedDelayString = "${tasktracker.search.reconcile-interval:PT1H}",
+            initialDelayString = "${tasktracker.search.reconcile-interval:PT1H}")
+    public void reconcile() {
+        owners.clear();
+        Thread.ofVirtual().name("task-search-rebuild").start(this::rebuild);
+    }
+
+    /**
+     * Loads owners one at a time until all are indexed or the rebuild timeout has passed.
+     */
+    void rebuild() {
+        long started = System.nanoTime();
+        long deadline = started + rebuildTimeout.toNanos();
+        List<UUID> ownerIds = userRepository.findAllUserIds();
+        int loaded = 0;
+        for (UUID ownerId : ownerIds) {
+            if (System.nanoTime() - deadline > 0) {
+                log.warn("Search index rebuild stopped after {} of {} owners; the rest load on first search",
+                        loaded, ownerIds.size());
+                return;
+            }
+            loadedIndex(ownerId);
+            loaded++;
+        }
+        log.info("Search index rebuilt for {} owners in {} ms", loaded,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private OwnerIndex loadedIndex(UUID ownerId) {
+        OwnerIndex index = owners.computeIfAbsent(ownerId, key -> new OwnerIndex());
+        // One loader per owner; events arriving meanwhile are applied and win over the loaded rows.
+        index.loadIfNeeded(() -> taskRepository.findTextByOwner(ownerId));
+        return index;
+    }
+}
@@ -0,0 +1,35 @@
+package com.BenjaminPark.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Splits task text and search queries into lower-case words.
+ */
+final class Tokenizer {
+
+    static final int MAX_TOKEN_LENGTH = 64;
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private Tokenizer() {}
+
+    /**
+     * Returns the words of the text in order, repeats included.
+     * Anything that is not a letter or digit separates words; words are cut to MAX_TOKEN_LENGTH characters.
+     * @param text text to split, may be null.
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : SEPARATORS.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token.length() > MAX_TOKEN_LENGTH ? token.substring(0, MAX_TOKEN_LENGTH) : token);
+            }
+        }
+        return tokens;
+    }
+}
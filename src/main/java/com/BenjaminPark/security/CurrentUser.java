@@ -0,0 +1,29 @@
+package com.BenjaminPark.security;
+
+import org.springframework.security.core.Authentication;
+
+import java.util.UUID;
+
+/**
+ * Resolves the userId of the authenticated caller in either security mode.
+ */
+public final class CurrentUser {
+
+    private CurrentUser() {}
+
+    /**
+     * Returns the userId of the authenticated caller.
+     * @param authentication authentication of the current request.
+     * @throws IllegalStateException if the principal is of a type neither security mode produces.
+     */
+    public static UUID id(Authentication authentication) {
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof CustomUserDetails userDetails) {
+            return userDetails.getUserId();
+        }
+        if (principal instanceof UUID userId) {
+            return userId;
+        }
+        throw new IllegalStateException("Unexpected principal type: " + principal.getClass().getName());
+    }
+}
@@ -1,25 +1,43 @@
 package com.BenjaminPark.security;
 
 import com.BenjaminPark.domain.User;
-import com.BenjaminPark.repository.UserRepository;
+import com.BenjaminPark.exceptions.MissingUsernameException;
+import com.BenjaminPark.service.UserService;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.UUID;
+
 @Service
-public class JpaUserDetailsService implements UserDetailsService {
+public class JpaUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
-    private final UserRepository userRepository;
+    private final UserService userService;
 
-    public JpaUserDetailsService(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    public JpaUserDetailsService(UserService userService) {
+        this.userService = userService;
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username).orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+        User user;
+        try {
+            user = userService.getUserByUsername(username);
+        } catch (MissingUsernameException e) {
+            throw new UsernameNotFoundException("User not found: " + username);
+        }
 
         return new CustomUserDetails(user);
     }
+
+    /**
+     * Stores a rehashed password after a successful login with an outdated work factor.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        UUID userId = ((CustomUserDetails) user).getUserId();
+        return new CustomUserDetails(userService.rehashUserPassword(userId, newPassword));
+    }
 }
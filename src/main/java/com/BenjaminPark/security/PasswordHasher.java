@@ -0,0 +1,178 @@
+package com.BenjaminPark.security;
+
+import com.BenjaminPark.domain.PasswordHashing;
+import com.BenjaminPark.exceptions.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt password hashing with a work factor calibrated to the host.
+ * <p>
+ * At startup the cost is chosen so one hash takes roughly {@code tasktracker.security.bcrypt.target-latency},
+ * unless {@code tasktracker.security.bcrypt.cost} pins it. Hashes with a lower cost are reported by
+ * {@link #upgradeEncoding(String)}, so they are replaced on the next successful login.
+ * <p>
+ * All hashing runs on a small dedicated pool with a bounded queue. When the queue is full, callers fail
+ * fast with {@link PasswordHashingUnavailableException} rather than tying up request threads behind a
+ * login storm. A caller that gives up after {@code wait-timeout} frees its queue slot if its hash has not
+ * started yet; a hash that has started still runs to completion, so abandoned work can hold a worker for up
+ * to one hash time (about {@code target-latency}) past the timeout. Hash latency ({@code tasktracker.password.hash}) and queue depth
+ * ({@code tasktracker.password.hash.queue}) are published as metrics.
+ */
+@Component
+public class PasswordHasher implements PasswordEncoder, PasswordHashing {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordHasher.class);
+    private static final int MIN_COST = 10;
+    private static final int MAX_COST = 16;
+
+    private final ThreadPoolExecutor executor;
+    private final Duration waitTimeout;
+    private final Timer encodeTimer;
+    private final Timer verifyTimer;
+    private final int cost;
+
+    public PasswordHasher(@Value("${tasktracker.security.bcrypt.target-latency:250ms}") Duration targetLatency,
+                          @Value("${tasktracker.security.bcrypt.cost:0}") int fixedCost,
+                          @Value("${tasktracker.security.bcrypt.threads:0}") int threads,
+                          @Value("${tasktracker.security.bcrypt.queue-capacity:64}") int queueCapacity,
+                          @Value("${tasktracker.security.bcrypt.wait-timeout:5s}") Duration waitTimeout,
+                          MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "bcrypt-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.waitTimeout = waitTimeout;
+        this.encodeTimer = Timer.builder("tasktracker.password.hash").tag("operation", "encode")
+                .publishPercentileHistogram().register(meterRegistry);
+        this.verifyTimer = Timer.builder("tasktracker.password.hash").tag("operation", "verify")
+                .publishPercentileHistogram().register(meterRegistry);
+        Gauge.builder("tasktracker.password.hash.queue", executor, e -> e.getQueue().size())
+                .description("Password hashing requests waiting for a worker")
+                .register(meterRegistry);
+        this.cost = fixedCost > 0 ? fixedCost : calibrate(targetLatency);
+    }
+
+    @PostConstruct
+    void install() {
+        PasswordHashing.use(this);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        PasswordHashing.use(PasswordHashing.DEFAULT);
+        executor.shutdown();
+    }
+
+    /**
+     * Returns the BCrypt cost used for new hashes.
+     */
+    public int getCost() {
+        return cost;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        String raw = rawPassword.toString();
+        return submit(encodeTimer, () -> BCrypt.hashpw(raw, BCrypt.gensalt(cost)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        String raw = rawPassword.toString();
+        return submit(verifyTimer, () -> BCrypt.checkpw(raw, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return costOf(encodedPassword) < cost;
+    }
+
+    @Override
+    public String hash(String rawPassword) {
+        return encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String hashedPassword) {
+        return matches((CharSequence) rawPassword, hashedPassword);
+    }
+
+    private <T> T submit(Timer timer, Callable<T> work) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.recordCallable(work));
+        } catch (RejectedExecutionException e) {
+            throw new PasswordHashingUnavailableException("Too many concurrent password checks, try again later.");
+        }
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // A queued hash is taken off the queue. One already running cannot be stopped, since BCrypt does
+            // not check for interrupts, and keeps its worker until it finishes.
+            future.cancel(false);
+            executor.remove((Runnable) future);
+            throw new PasswordHashingUnavailableException("Password check timed out, try again later.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException("Interrupted while checking password.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Returns the cost whose hash time is closest to the target, assuming each step doubles the time.
+     */
+    private static int calibrate(Duration targetLatency) {
+        String password = "calibration";
+        BCrypt.hashpw(password, BCrypt.gensalt(MIN_COST));
+        long start = System.nanoTime();
+        BCrypt.hashpw(password, BCrypt.gensalt(MIN_COST));
+        long elapsed = Math.max(1, System.nanoTime() - start);
+        double steps = Math.log((double) targetLatency.toNanos() / elapsed) / Math.log(2);
+        int cost = Math.max(MIN_COST, Math.min(MAX_COST, MIN_COST + (int) Math.round(steps)));
+        log.info("BCrypt cost {} selected ({} ms at cost {}, target {} ms)",
+                cost, TimeUnit.NANOSECONDS.toMillis(elapsed), MIN_COST, targetLatency.toMillis());
+        return cost;
+    }
+
+    private static int costOf(String encodedPassword) {
+        // BCrypt hashes look like $2a$10$..., with the cost in characters 4-5.
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6));
+        } catch (RuntimeException e) {
+            return 0;
+        }
+    }
+}
@@ -1,24 +1,88 @@
 package com.BenjaminPark.security;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.web.server.ConditionalOnManagementPort;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+/**
+ * Security configuration.
+ * <p>
+ * {@code tasktracker.security.mode} selects between {@code session} (form login with an HttpSession, default)
+ * and {@code stateless} (signed bearer tokens from {@code POST /auth/token}, no session).
+ * <p>
+ * When {@code management.server.port} differs from the application port, as in application.yml, actuator
+ * endpoints are served on that port without authentication, so it must only be reachable internally. On the
+ * application port every endpoint except health and the login requires authentication.
+ */
 @Configuration
 public class SecurityConfig {
 
     private final JpaUserDetailsService jpaUserDetailsService;
+    private final ObjectProvider<TokenService> tokenService;
+    private final PasswordHasher passwordHasher;
+    private final boolean stateless;
 
-    public SecurityConfig(JpaUserDetailsService jpaUserDetailsService) {
+    public SecurityConfig(JpaUserDetailsService jpaUserDetailsService, ObjectProvider<TokenService> tokenService,
+                          PasswordHasher passwordHasher, @Value("${tasktracker.security.mode:session}") String mode) {
         this.jpaUserDetailsService = jpaUserDetailsService;
+        this.tokenService = tokenService;
+        this.passwordHasher = passwordHasher;
+        this.stateless = "stateless".equals(mode);
+    }
+
+    /**
+     * Opens the separate management port, where Prometheus scrapes without credentials.
+     */
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @ConditionalOnManagementPort(ManagementPortType.DIFFERENT)
+    public SecurityFilterChain managementSecurityFilterChain(HttpSecurity http, Environment environment) throws Exception {
+        http.securityMatcher(request ->
+                        Integer.toString(request.getLocalPort()).equals(environment.getProperty("local.management.port")))
+                .authorizeHttpRequests(authorize -> authorize
+                        .anyRequest().permitAll()
+                )
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session
+                        .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                );
+        return http.build();
     }
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        if (stateless) {
+            http.authorizeHttpRequests(authorize -> authorize
+                    .requestMatchers("/auth/token", "/home", "/actuator/health").permitAll()
+                    .anyRequest().authenticated()
+                    )
+                    .csrf(AbstractHttpConfigurer::disable)
+                    .sessionManagement(session -> session
+                            .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                    )
+                    .exceptionHandling(exceptions -> exceptions
+                            .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
+                    )
+                    .addFilterBefore(new TokenAuthenticationFilter(tokenService.getObject()), UsernamePasswordAuthenticationFilter.class);
+            return http.build();
+        }
+
         http.authorizeHttpRequests(authorize -> authorize
-                .requestMatchers("/login", "/home").permitAll()
+                .requestMatchers("/login", "/home", "/actuator/health").permitAll()
                 .anyRequest().authenticated()
                 )
                 .formLogin(form -> form
@@ -28,14 +92,19 @@ public class SecurityConfig {
                 .logout(logout -> logout
                         .permitAll()
                 )
-                .userDetailsService(jpaUserDetailsService);
+                .authenticationProvider(daoAuthenticationProvider());
 
         return http.build();
     }
 
-    @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    /**
+     * Form login provider. Verifies with the calibrated hasher and rehashes outdated hashes on success.
+     */
+    private DaoAuthenticationProvider daoAuthenticationProvider() {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(passwordHasher);
+        provider.setUserDetailsService(jpaUserDetailsService);
+        provider.setUserDetailsPasswordService(jpaUserDetailsService);
+        return provider;
     }
 
 
@@ -0,0 +1,130 @@
+package com.BenjaminPark.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Issues and verifies short-lived, HMAC-SHA256 signed access tokens.
+ * <p>
+ * A token is {@code base64url(userId | expiry) "." base64url(signature)}. Verifying one needs only the
+ * shared secret, so requests can be authenticated on any node without a session or a database query.
+ * Tokens cannot be revoked before they expire; keep the TTL short.
+ * <p>
+ * Only created in stateless security mode. The secret must decode to at least 256 bits, the HMAC-SHA256
+ * output size; without one a random key is used, valid on this node until it restarts.
+ */
+@Service
+@ConditionalOnProperty(name = "tasktracker.security.mode", havingValue = "stateless")
+public class TokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenService.class);
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int PAYLOAD_LENGTH = 24;
+    private static final int MIN_KEY_LENGTH = 32;
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final Clock clock;
+
+    @Autowired
+    public TokenService(@Value("${tasktracker.security.token.secret:}") String secret,
+                        @Value("${tasktracker.security.token.ttl:15m}") Duration ttl) {
+        this(secret, ttl, Clock.systemUTC());
+    }
+
+    TokenService(String secret, Duration ttl, Clock clock) {
+        byte[] keyBytes;
+        if (secret == null || secret.isEmpty()) {
+            log.warn("tasktracker.security.token.secret is not set; using a random key. Tokens will not be valid on other nodes or after a restart.");
+            keyBytes = new byte[MIN_KEY_LENGTH];
+            new SecureRandom().nextBytes(keyBytes);
+        } else {
+            keyBytes = Base64.getDecoder().decode(secret);
+            if (keyBytes.length < MIN_KEY_LENGTH) {
+                throw new IllegalArgumentException("tasktracker.security.token.secret must decode to at least "
+                        + MIN_KEY_LENGTH * 8 + " bits, got " + keyBytes.length * 8);
+            }
+        }
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns a signed token for the user, valid for the configured TTL.
+     * @param userId userId carried by the token.
+     */
+    public IssuedToken issue(UUID userId) {
+        Instant expiresAt = clock.instant().plus(ttl);
+        byte[] payload = ByteBuffer.allocate(PAYLOAD_LENGTH)
+                .putLong(userId.getMostSignificantBits())
+                .putLong(userId.getLeastSignificantBits())
+                .putLong(expiresAt.getEpochSecond())
+                .array();
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String token = encoder.encodeToString(payload) + "." + encoder.encodeToString(sign(payload));
+        return new IssuedToken(token, expiresAt);
+    }
+
+    /**
+     * Returns the userId carried by the token if its signature is valid and it has not expired.
+     * @param token token to verify.
+     */
+    public Optional<UUID> verify(String token) {
+        int separator = token.indexOf('.');
+        if (separator < 0) {
+            return Optional.empty();
+        }
+        byte[] payload;
+        byte[] signature;
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            payload = decoder.decode(token.substring(0, separator));
+            signature = decoder.decode(token.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (payload.length != PAYLOAD_LENGTH || !MessageDigest.isEqual(sign(payload), signature)) {
+            return Optional.empty();
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        UUID userId = new UUID(buffer.getLong(), buffer.getLong());
+        if (clock.instant().getEpochSecond() >= buffer.getLong()) {
+            return Optional.empty();
+        }
+        return Optional.of(userId);
+    }
+
+    private byte[] sign(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 unavailable", e);
+        }
+    }
+
+    /**
+     * A signed token and the instant it stops being accepted.
+     */
+    public record IssuedToken(String token, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.BenjaminPark.service;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * Identifies which database constraint caused a DataIntegrityViolationException.
+ */
+final class ConstraintViolations {
+
+    private ConstraintViolations() {}
+
+    /**
+     * Returns whether the violation was raised by the named constraint.
+     * @param e violation to inspect.
+     * @param constraintName name of the constraint, case-insensitive.
+     */
+    static boolean violates(DataIntegrityViolationException e, String constraintName) {
+        return describe(e).contains(constraintName.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns whether the violation was raised by a primary key.
+     * @param e violation to inspect.
+     */
+    static boolean isPrimaryKey(DataIntegrityViolationException e) {
+        return describe(e).contains("primary");
+    }
+
+    /**
+     * Returns whether the violation was raised by a unique key or the primary key.
+     * @param e violation to inspect.
+     */
+    static boolean isDuplicateKey(DataIntegrityViolationException e) {
+        String description = describe(e);
+        return description.contains("duplicate") || description.contains("unique");
+    }
+
+    private static String describe(DataIntegrityViolationException e) {
+        StringBuilder description = new StringBuilder();
+        if (e.getCause() instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+            description.append(violation.getConstraintName()).append(' ');
+        }
+        description.append(e.getMostSpecificCause().getMessage());
+        return description.toString().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,76 @@
+package com.BenjaminPark.service;
+
+import com.BenjaminPark.domain.TaskStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * Daily sweep that moves overdue tasks from one status to another.
+ * <p>
+ * Off unless {@code tasktracker.due.sweep.enabled} is set, and then {@code from-status} and {@code to-status}
+ * must be configured too: there is no default transition. Tasks in {@code from-status} due before today move
+ * to {@code to-status} in batches of {@code batch-size}, each batch its own transaction, with {@code pause}
+ * between batches and at most {@code max-batches} per run. Batches are located by a range scan on
+ * (taskStatus, dueDate), and moved tasks leave that range, so no cursor is needed.
+ */
+@Component
+@ConditionalOnProperty(name = "tasktracker.due.sweep.enabled", havingValue = "true")
+public class OverdueTaskSweep {
+
+    private static final Logger log = LoggerFactory.getLogger(OverdueTaskSweep.class);
+
+    private final TaskService taskService;
+    private final TaskStatus fromStatus;
+    private final TaskStatus toStatus;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Duration pause;
+
+    public OverdueTaskSweep(TaskService taskService,
+                            @Value("${tasktracker.due.sweep.from-status}") TaskStatus fromStatus,
+                            @Value("${tasktracker.due.sweep.to-status}") TaskStatus toStatus,
+                            @Value("${tasktracker.due.sweep.batch-size:500}") int batchSize,
+                            @Value("${tasktracker.due.sweep.max-batches:1000}") int maxBatches,
+                            @Value("${tasktracker.due.sweep.pause:100ms}") Duration pause) {
+        if (fromStatus == toStatus) {
+            throw new IllegalArgumentException("tasktracker.due.sweep.from-status and to-status must differ");
+        }
+        this.taskService = taskService;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.pause = pause;
+    }
+
+    @Scheduled(cron = "${tasktracker.due.sweep.cron:0 15 0 * * *}")
+    public void sweep() {
+        LocalDate today = LocalDate.now();
+        long moved = 0;
+        int batches = 0;
+        int updated;
+        do {
+            updated = taskService.transitionOverdueBatch(fromStatus, toStatus, today, batchSize);
+            moved += updated;
+            batches++;
+        } while (updated > 0 && batches < maxBatches && pauseBetweenBatches());
+        log.info("Overdue sweep moved {} tasks from {} to {} in {} batches", moved, fromStatus, toStatus, batches);
+    }
+
+    private boolean pauseBetweenBatches() {
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.BenjaminPark.service;
+
+import com.BenjaminPark.domain.TaskStatus;
+import com.BenjaminPark.dto.TaskStatusView;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Task counts of one owner, adjusted by the exact difference of every change.
+ * <p>
+ * The status and due date of each task are kept, so a change subtracts the old values and adds the new ones.
+ * Open tasks not yet overdue are counted per due date; when the date moves on, the dates that have passed
+ * are moved into the overdue count, so a read costs O(1) apart from that daily roll-over.
+ * <p>
+ * Like the search index, changes applied while the owner is being loaded win over the loaded rows.
+ */
+final class OwnerStatistics {
+
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private final Map<UUID, TaskStatusView> tasks = new HashMap<>();
+    private final long[] countsByStatus = new long[TaskStatus.values().length];
+    private final TreeMap<LocalDate, Long> dueNotOverdue = new TreeMap<>();
+    private long overdue;
+    private LocalDate asOf;
+    private Set<UUID> changedWhileLoading = new HashSet<>();
+
+    OwnerStatistics(LocalDate today) {
+        this.asOf = today;
+    }
+
+    /**
+     * Reads the owner's tasks and adds them, unless this has already been done.
+     * Concurrent first reads wait for a single load. The load lock is a ReentrantLock so a virtual thread
+     * blocked in the query can unmount.
+     * @param reader reads every task of the owner from the database.
+     */
+    void loadIfNeeded(Supplier<List<TaskStatusView>> reader) {
+        if (isLoaded()) {
+            return;
+        }
+        loadLock.lock();
+        try {
+            if (!isLoaded()) {
+                load(reader.get());
+            }
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Records a new task or the new status and due date of an existing one.
+     */
+    synchronized void put(UUID taskId, TaskStatus taskStatus, LocalDate dueDate) {
+        markChanged(taskId);
+        subtract(tasks.remove(taskId));
+        TaskStatusView task = new TaskStatusView(taskId, taskStatus, dueDate);
+        tasks.put(taskId, task);
+        add(task);
+    }
+
+    /**
+     * Forgets a deleted task.
+     */
+    synchronized void remove(UUID taskId) {
+        markChanged(taskId);
+        subtract(tasks.remove(taskId));
+    }
+
+    /**
+     * Returns the current counts, with overdue counted against today.
+     */
+    synchronized TaskStats snapshot(LocalDate today) {
+        rollTo(today);
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            counts.put(status, countsByStatus[status.ordinal()]);
+        }
+        return new TaskStats(counts, overdue, asOf);
+    }
+
+    private synchronized boolean isLoaded() {
+        return changedWhileLoading == null;
+    }
+
+    private synchronized void load(List<TaskStatusView> rows) {
+        for (TaskStatusView row : rows) {
+            if (!changedWhileLoading.contains(row.taskId())) {
+                tasks.put(row.taskId(), row);
+                add(row);
+            }
+        }
+        changedWhileLoading = null;
+    }
+
+    private void markChanged(UUID taskId) {
+        if (changedWhileLoading != null) {
+            changedWhileLoading.add(taskId);
+        }
+    }
+
+    private void add(TaskStatusView task) {
+        countsByStatus[task.taskStatus().ordinal()]++;
+        if (isOpenWithDueDate(task)) {
+            if (task.dueDate().isBefore(asOf)) {
+                overdue++;
+            } else {
+                dueNotOverdue.merge(task.dueDate(), 1L, Long::sum);
+            }
+        }
+    }
+
+    private void subtract(TaskStatusView task) {
+        if (task == null) {
+            return;
+        }
+        countsByStatus[task.taskStatus().ordinal()]--;
+        if (isOpenWithDueDate(task)) {
+            if (task.dueDate().isBefore(asOf)) {
+                overdue--;
+            } else {
+                dueNotOverdue.computeIfPresent(task.dueDate(), (date, count) -> count == 1 ? null : count - 1);
+            }
+        }
+    }
+
+    private void rollTo(LocalDate today) {
+        if (!today.isAfter(asOf)) {
+            return;
+        }
+        Iterator<Long> passed = dueNotOverdue.headMap(today).values().iterator();
+        while (passed.hasNext()) {
+            overdue += passed.next();
+            passed.remove();
+        }
+        asOf = today;
+    }
+
+    private static boolean isOpenWithDueDate(TaskStatusView task) {
+        return task.taskStatus() != TaskStatus.COMPLETED && task.dueDate() != null;
+    }
+}
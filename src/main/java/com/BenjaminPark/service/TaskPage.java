@@ -0,0 +1,14 @@
+package com.BenjaminPark.service;
+
+import com.BenjaminPark.dto.TaskView;
+
+import java.util.List;
+
+/**
+ * One page of an owner's tasks.
+ *
+ * @param tasks tasks on this page, in listing order.
+ * @param nextCursor opaque cursor for the following page, or null if this is the last page.
+ */
+public record TaskPage(List<TaskView> tasks, String nextCursor) {
+}
@@ -1,55 +1,210 @@
 package com.BenjaminPark.service;
 
 import com.BenjaminPark.domain.Task;
+import com.BenjaminPark.domain.TaskDetails;
+import com.BenjaminPark.domain.TaskStatus;
+import com.BenjaminPark.dto.TaskDue;
+import com.BenjaminPark.dto.TaskRef;
+import com.BenjaminPark.dto.TaskView;
+import com.BenjaminPark.event.TaskEvent;
+import com.BenjaminPark.exceptions.BulkLimitExceededException;
 import com.BenjaminPark.exceptions.DuplicateTaskException;
 import com.BenjaminPark.exceptions.InvalidUserException;
 import com.BenjaminPark.exceptions.MissingTaskException;
+import com.BenjaminPark.exceptions.VersionConflictException;
+import com.BenjaminPark.repository.TaskCursor;
+import com.BenjaminPark.repository.TaskFilter;
 import com.BenjaminPark.repository.TaskRepository;
+import com.BenjaminPark.repository.TaskSort;
 import com.BenjaminPark.repository.UserRepository;
+import com.BenjaminPark.search.TaskSearchIndex;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Timed("tasktracker.service")
 public class TaskService {
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+    public static final int MAX_BULK_SIZE = 1000;
+    public static final int DEFAULT_SEARCH_RESULTS = 20;
+    public static final int MAX_SEARCH_RESULTS = 100;
+    public static final int DEFAULT_DUE_WITHIN_DAYS = 7;
+    public static final int MAX_DUE_WITHIN_DAYS = 366;
+
     private final UserRepository userRepository;
     private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskStatistics taskStatistics;
+    private final TaskWriteBehind writeBehind;
 
-    public TaskService(UserRepository userRepository, TaskRepository taskRepository) {
+    public TaskService(UserRepository userRepository, TaskRepository taskRepository,
+                       ApplicationEventPublisher eventPublisher, TaskSearchIndex taskSearchIndex,
+                       TaskStatistics taskStatistics, TaskWriteBehind writeBehind) {
         this.userRepository = userRepository;
         this.taskRepository = taskRepository;
+        this.eventPublisher = eventPublisher;
+        this.taskSearchIndex = taskSearchIndex;
+        this.taskStatistics = taskStatistics;
+        this.writeBehind = writeBehind;
     }
 
+    /**
+     * Inserts a new task.
+     * No existence check is made up front; a duplicate id is reported by the primary key constraint.
+     * @param task new task.
+     * @return the inserted task.
+     * @throws DuplicateTaskException if a task with the same id already exists.
+     */
     public Task createTask(Task task) throws DuplicateTaskException {
-        if (taskRepository.existsById(task.getTaskId())) {
-            throw new DuplicateTaskException("Task already exists!");
+        Task created;
+        try {
+            created = taskRepository.saveAndFlush(task);
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isPrimaryKey(e)) {
+                throw new DuplicateTaskException("Task already exists!");
+            }
+            throw e;
         }
-        return taskRepository.save(task);
+        eventPublisher.publishEvent(TaskEvent.created(created));
+        return created;
     }
 
-    public Task updateTask(UUID userId, Task task) throws MissingTaskException, InvalidUserException {
-        Task taskToUpdate = taskRepository.findById(task.getTaskId()).orElseThrow(() ->
-                new MissingTaskException("Task with id " + task.getTaskId() + " does not exist"));
-        if (!taskToUpdate.getOwner().getUserId().equals(userId)) {
-            throw new InvalidUserException("User does not own this task.");
+    /**
+     * Inserts many new tasks in JDBC batches.
+     * Task ids are generated on construction, so no existence check is made.
+     * @param tasks new tasks, all belonging to the same owner.
+     * @return the inserted tasks.
+     * @throws BulkLimitExceededException if more than MAX_BULK_SIZE tasks are passed.
+     */
+    @Transactional
+    public List<Task> createTasks(List<Task> tasks) throws BulkLimitExceededException {
+        if (tasks.size() > MAX_BULK_SIZE) {
+            throw new BulkLimitExceededException("At most " + MAX_BULK_SIZE + " tasks can be created at once.");
+        }
+        taskRepository.persistAll(tasks);
+        tasks.forEach(task -> eventPublisher.publishEvent(TaskEvent.created(task)));
+        return tasks;
+    }
+
+    /**
+     * Moves every task of an owner from one status to another with a single statement.
+     * The owner's held write-behind updates are written first.
+     * @param userId owner of the tasks.
+     * @param fromStatus status the tasks currently have.
+     * @param toStatus status to move the tasks to.
+     * @param dueBefore if not null, only tasks due strictly before this date are changed.
+     * @return number of tasks changed.
+     */
+    public int transitionTaskStatus(UUID userId, TaskStatus fromStatus, TaskStatus toStatus, LocalDate dueBefore) {
+        writeBehind.flushOwner(userId);
+        int updated = taskRepository.updateStatusByOwner(userId, fromStatus, toStatus, dueBefore);
+        if (updated > 0) {
+            eventPublisher.publishEvent(TaskEvent.bulkUpdated(userId));
+        }
+        return updated;
+    }
+
+    /**
+     * Overwrites the editable fields of a task with one conditional UPDATE.
+     * Ownership and, if given, the expected version are checked by the statement itself; the task is
+     * only looked up again when no row matched.
+     * With write-behind enabled, an unconditional update is held and written later instead; see
+     * {@link TaskWriteBehind}. Not transactional itself, so a held update can be written first without
+     * holding a second connection; the UPDATE runs in a transaction of its own.
+     * @param userId owner of the task.
+     * @param taskId task to update.
+     * @param details new field values.
+     * @param expectedVersion version the client last saw, or null to update unconditionally.
+     * @return the new field values.
+     * @throws MissingTaskException if the task does not exist.
+     * @throws InvalidUserException if the task belongs to another user.
+     * @throws VersionConflictException if the task is no longer at expectedVersion.
+     */
+    public TaskDetails updateTask(UUID userId, UUID taskId, TaskDetails details, Long expectedVersion)
+            throws MissingTaskException, InvalidUserException, VersionConflictException {
+        if (expectedVersion == null) {
+            if (writeBehind.offer(userId, taskId, details)) {
+                return details;
+            }
+        } else {
+            writeBehind.flushTask(taskId);
+        }
+        int updated = taskRepository.updateOwnedTask(taskId, userId, details.taskName(),
+                details.taskDescription(), details.taskStatus(), details.dueDate(), expectedVersion);
+        if (updated == 0) {
+            if (expectedVersion != null && taskRepository.findVersionByTaskIdAndOwner(taskId, userId).isPresent()) {
+                throw new VersionConflictException("Task " + taskId + " has been modified since version " + expectedVersion + ".");
+            }
+            throwMissingOrNotOwned(taskId);
+        }
+        eventPublisher.publishEvent(TaskEvent.updated(userId, taskId, details));
+        return details;
+    }
+
+    /**
+     * Deletes a task with one conditional DELETE.
+     * Ownership is checked by the statement itself; the task is only looked up again when no row matched.
+     * @param userId owner of the task.
+     * @param taskId task to delete.
+     * @throws MissingTaskException if the task does not exist.
+     * @throws InvalidUserException if the task belongs to another user.
+     */
+    @Transactional
+    public void deleteTask(UUID userId, UUID taskId) throws MissingTaskException, InvalidUserException {
+        if (taskRepository.deleteOwnedTask(taskId, userId) == 0) {
+            throwMissingOrNotOwned(taskId);
         }
-        taskToUpdate.setTaskName(task.getTaskName());
-        taskToUpdate.setTaskDescription(task.getTaskDescription());
-        taskToUpdate.setTaskStatus(task.getTaskStatus());
-        return taskRepository.save(taskToUpdate);
+        writeBehind.discard(userId, taskId);
+        eventPublisher.publishEvent(TaskEvent.deleted(userId, taskId));
     }
 
-    public Task deleteTask(UUID userId, Task task) throws MissingTaskException, InvalidUserException {
-        Task taskToDelete = taskRepository.findById(task.getTaskId()).orElseThrow(() ->
-                new MissingTaskException("Task with id " + task.getTaskId() + " does not exist"));
-        if (!taskToDelete.getOwner().getUserId().equals(userId)) {
+    private void throwMissingOrNotOwned(UUID taskId) throws MissingTaskException, InvalidUserException {
+        if (taskRepository.existsById(taskId)) {
             throw new InvalidUserException("User does not own this task.");
         }
-        taskRepository.delete(taskToDelete);
-        return taskToDelete;
+        throw new MissingTaskException("Task with id " + taskId + " does not exist");
+    }
+
+    /**
+     * Returns the read projection of a task without loading the entity or its owner.
+     * @param taskId task to read.
+     * @return projection of the task.
+     * @throws MissingTaskException if the task does not exist.
+     */
+    public TaskView getTaskViewByTaskId(UUID taskId) throws MissingTaskException {
+        writeBehind.flushTask(taskId);
+        return taskRepository.findViewByTaskId(taskId).orElseThrow(() ->
+                new MissingTaskException("Task with id " + taskId + " does not exist."));
+    }
+
+    /**
+     * Returns the current version of a task without reading any other column.
+     * @param taskId task to read.
+     * @return version of the task.
+     * @throws MissingTaskException if the task does not exist.
+     */
+    public long getTaskVersion(UUID taskId) throws MissingTaskException {
+        writeBehind.flushTask(taskId);
+        return taskRepository.findVersionByTaskId(taskId).orElseThrow(() ->
+                new MissingTaskException("Task with id " + taskId + " does not exist."));
     }
 
     public Task getTaskByTaskId(UUID taskId) throws MissingTaskException {
@@ -66,7 +221,163 @@ public class TaskService {
         }
     }
 
+    /**
+     * Returns one page of an owner's tasks matching the filter, in the filter's order.
+     * Pages are located by seeking past the cursor position, so cost does not grow with page depth.
+     * @param userId owner of the tasks.
+     * @param filter filter and ordering; the same filter must be passed for every page.
+     * @param cursor cursor returned with the previous page, or null for the first page.
+     * @param pageSize requested page size, clamped to [1, MAX_PAGE_SIZE].
+     * @return page of tasks with the cursor for the next page.
+     */
+    public TaskPage getTaskPageByOwnerId(UUID userId, TaskFilter filter, String cursor, int pageSize) {
+        int size = Math.max(1, Math.min(pageSize, MAX_PAGE_SIZE));
+        TaskCursor after = cursor == null || cursor.isEmpty() ? null : TaskCursor.decode(cursor);
+        List<TaskView> tasks = taskRepository.findPage(userId, filter, after, size + 1);
+        if (tasks.size() <= size) {
+            return new TaskPage(overlay(tasks), null);
+        }
+        List<TaskView> page = tasks.subList(0, size);
+        TaskView last = page.get(size - 1);
+        return new TaskPage(overlay(page),
+                new TaskCursor(filter.sort().sortKey(last), last.taskId()).encode());
+    }
+
+    /**
+     * Returns the owner's tasks whose name or description best match the query, best first.
+     * Matching and ranking use the in-memory index; only the top results are read from the database.
+     * @param userId owner of the tasks.
+     * @param query words to search for, each matched as a whole word or a word prefix.
+     * @param limit requested number of results, clamped to [1, MAX_SEARCH_RESULTS].
+     * @return matching tasks in rank order.
+     */
+    public List<TaskView> searchTasks(UUID userId, String query, int limit) {
+        List<UUID> ranked = taskSearchIndex.search(userId, query, Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS)));
+        if (ranked.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<UUID, TaskView> views = taskRepository.findViewsByOwnerAndTaskIds(userId, ranked).stream()
+                .collect(Collectors.toMap(TaskView::taskId, Function.identity()));
+        return ranked.stream().map(views::get).filter(Objects::nonNull).map(writeBehind::overlay).toList();
+    }
+
+    /**
+     * Applies held write-behind updates to a page of tasks. The page cursor stays on the stored values.
+     */
+    private List<TaskView> overlay(List<TaskView> tasks) {
+        return tasks.stream().map(writeBehind::overlay).toList();
+    }
+
+    /**
+     * Returns the owner's task counts per status and the number of overdue tasks.
+     * Served from counters kept current by task events; the tasks themselves are not read.
+     * @param userId owner of the tasks.
+     * @return counts of the owner's tasks.
+     */
+    public TaskStats getTaskStats(UUID userId) {
+        return taskStatistics.get(userId);
+    }
+
+    /**
+     * Returns one page of tasks not yet completed whose due date has passed, earliest due first.
+     * @param userId owner of the tasks, or null for the tasks of every owner.
+     * @param cursor cursor returned with the previous page, or null for the first page.
+     * @param pageSize requested page size, clamped to [1, MAX_PAGE_SIZE].
+     * @return page of tasks with the cursor for the next page.
+     */
+    public TaskPage getOverdueTasks(UUID userId, String cursor, int pageSize) {
+        return getDueTaskPage(userId, null, LocalDate.now(), cursor, pageSize);
+    }
+
+    /**
+     * Returns one page of tasks not yet completed that are due between today and the given number of days
+     * from today, both inclusive, earliest due first.
+     * @param userId owner of the tasks, or null for the tasks of every owner.
+     * @param days days ahead to look, clamped to [0, MAX_DUE_WITHIN_DAYS].
+     * @param cursor cursor returned with the previous page, or null for the first page.
+     * @param pageSize requested page size, clamped to [1, MAX_PAGE_SIZE].
+     * @return page of tasks with the cursor for the next page.
+     */
+    public TaskPage getTasksDueWithin(UUID userId, int days, String cursor, int pageSize) {
+        LocalDate today = LocalDate.now();
+        int window = Math.max(0, Math.min(days, MAX_DUE_WITHIN_DAYS));
+        return getDueTaskPage(userId, today, today.plusDays(window + 1L), cursor, pageSize);
+    }
+
+    private TaskPage getDueTaskPage(UUID userId, LocalDate from, LocalDate before, String cursor, int pageSize) {
+        int size = Math.max(1, Math.min(pageSize, MAX_PAGE_SIZE));
+        TaskCursor after = cursor == null || cursor.isEmpty() ? null : TaskCursor.decode(cursor);
+        List<TaskView> tasks = taskRepository.findDue(userId, from, before, after, size + 1);
+        if (tasks.size() <= size) {
+            return new TaskPage(overlay(tasks), null);
+        }
+        List<TaskView> page = tasks.subList(0, size);
+        TaskView last = page.get(size - 1);
+        return new TaskPage(overlay(page),
+                new TaskCursor(TaskSort.DUE_DATE.sortKey(last), last.taskId()).encode());
+    }
+
+    /**
+     * Moves up to batchSize of the earliest-due tasks in one status, due before the given date, to another
+     * status in a single UPDATE. Owners of the moved tasks are notified with a bulk update event.
+     * Held write-behind updates are written first, so one acknowledged earlier cannot restore the old status.
+     * @param fromStatus status the tasks currently have.
+     * @param toStatus status to move the tasks to.
+     * @param dueBefore only tasks due strictly before this date are moved.
+     * @param batchSize maximum number of tasks to move.
+     * @return number of tasks moved; 0 once none are left.
+     */
+    public int transitionOverdueBatch(TaskStatus fromStatus, TaskStatus toStatus, LocalDate dueBefore, int batchSize) {
+        writeBehind.flushAll();
+        List<TaskRef> batch = taskRepository.findRefsByStatusDueBefore(fromStatus, dueBefore, Limit.of(batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        int updated = taskRepository.updateStatusOfTasks(batch.stream().map(TaskRef::taskId).toList(),
+                fromStatus, toStatus);
+        batch.stream().map(TaskRef::ownerId).distinct()
+                .forEach(ownerId -> eventPublisher.publishEvent(TaskEvent.bulkUpdated(ownerId)));
+        return updated;
+    }
+
+    /**
+     * Passes every task not yet completed with a due date in [from, before) to the consumer one at a time,
+     * without materializing the range.
+     * @param from earliest due date to include.
+     * @param before due date to stop before.
+     * @param consumer receives each task.
+     */
+    @Transactional(readOnly = true)
+    public void streamTasksDueBetween(LocalDate from, LocalDate before, Consumer<TaskDue> consumer) {
+        try (Stream<TaskDue> tasks = taskRepository.streamDueBetween(from, before)) {
+            tasks.forEach(consumer);
+        }
+    }
+
+    /**
+     * Returns the owner's tasks in every status with a due date in [from, before).
+     * @param userId owner of the tasks.
+     * @param from earliest due date to include.
+     * @param before due date to stop before.
+     */
+    public List<TaskDue> getTasksDueBetween(UUID userId, LocalDate from, LocalDate before) {
+        return taskRepository.findDueByOwnerBetween(userId, from, before);
+    }
+
     public List<Task> findAllTasks() {
         return taskRepository.findAll();
     }
+
+    /**
+     * Passes every task of an owner to the consumer one at a time without materializing them.
+     * Tasks are read as unmanaged projections, so memory use stays constant.
+     * @param userId owner of the tasks.
+     * @param consumer receives each task.
+     */
+    @Transactional(readOnly = true)
+    public void streamTasksByOwner(UUID userId, Consumer<TaskView> consumer) {
+        try (Stream<TaskView> tasks = taskRepository.streamByOwner(userId)) {
+            tasks.forEach(consumer);
+        }
+    }
 }
@@ -0,0 +1,72 @@
+package com.BenjaminPark.service;
+
+import com.BenjaminPark.event.TaskEvent;
+import com.BenjaminPark.repository.TaskRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-owner task counts held in memory, one {@link OwnerStatistics} per owner.
+ * <p>
+ * An owner is loaded from the database on its first read and then kept current from committed task
+ * events. Bulk status changes do not say which tasks moved, so they drop the owner and the next read
+ * loads it again. Every {@code tasktracker.stats.reconcile-interval} all owners are dropped the same way,
+ * which corrects any drift, such as tasks removed together with their user, and frees idle owners.
+ */
+@Component
+public class TaskStatistics {
+
+    private final Map<UUID, OwnerStatistics> owners = new ConcurrentHashMap<>();
+    private final TaskRepository taskRepository;
+    private final Clock clock = Clock.systemDefaultZone();
+
+    public TaskStatistics(TaskRepository taskRepository, MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        Gauge.builder("tasktracker.stats.owners", owners, Map::size)
+                .description("Owners with task counts held in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the owner's task counts, loading them first if they are not held yet.
+     * @param ownerId owner of the tasks.
+     */
+    public TaskStats get(UUID ownerId) {
+        LocalDate today = LocalDate.now(clock);
+        OwnerStatistics statistics = owners.computeIfAbsent(ownerId, key -> new OwnerStatistics(today));
+        statistics.loadIfNeeded(() -> taskRepository.findStatusViewsByOwner(ownerId));
+        return statistics.snapshot(today);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskEvent(TaskEvent event) {
+        if (event.type() == TaskEvent.Type.BULK_UPDATED) {
+            owners.remove(event.ownerId());
+            return;
+        }
+        OwnerStatistics statistics = owners.get(event.ownerId());
+        if (statistics == null) {
+            return;
+        }
+        switch (event.type()) {
+            case CREATED, UPDATED -> statistics.put(event.taskId(), event.details().taskStatus(),
+                    event.details().dueDate());
+            case DELETED -> statistics.remove(event.taskId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tasktracker.stats.reconcile-interval:PT1H}",
+            initialDelayString = "${tasktracker.stats.reconcile-interval:PT1H}")
+    public void reconcile() {
+        owners.clear();
+    }
+}
@@ -0,0 +1,23 @@
+package com.BenjaminPark.service;
+
+import com.BenjaminPark.domain.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Task counts of one owner.
+ *
+ * @param countsByStatus number of tasks in each status; every status is present.
+ * @param overdue number of tasks not completed and due before asOf.
+ * @param asOf date overdue is counted against.
+ */
+public record TaskStats(Map<TaskStatus, Long> countsByStatus, long overdue, LocalDate asOf) {
+
+    /**
+     * Returns the number of tasks in all statuses.
+     */
+    public long total() {
+        return countsByStatus.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
@@ -0,0 +1,292 @@
+package com.BenjaminPark.service;
+
+import com.BenjaminPark.domain.Task;
+import com.BenjaminPark.domain.TaskDetails;
+import com.BenjaminPark.dto.TaskView;
+import com.BenjaminPark.event.TaskEvent;
+import com.BenjaminPark.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * Opt-in write-behind for unconditional task updates, for clients that autosave in rapid bursts.
+ * <p>
+ * Enabled with {@code tasktracker.tasks.write-behind.enabled}. An update is held in memory and acknowledged
+ * at once; later updates to the same task replace it, so a burst becomes a single write. Every
+ * {@code window} the held updates are written: up to {@code max-batch} tasks are loaded with one query and
+ * updated through the entities, so Hibernate sends the UPDATEs as JDBC batches. If a batch fails, for
+ * example on a version conflict, its tasks are written one at a time instead. Task events are published
+ * when the write commits.
+ * <p>
+ * Durability: an acknowledged update is only in memory until it is written. It is lost if the process dies
+ * before then. An update whose write fails stays held and is retried every window, up to
+ * {@code max-attempts} times; it is only dropped early if the task has since been deleted. A graceful
+ * shutdown flushes everything held.
+ * <p>
+ * Only the first update of a burst reads the database, to check the task exists and is owned by the caller;
+ * later ones do not touch it. List and search results show held values with the stored version. Reading a
+ * single task, or its version, writes its held update first, so ETags only ever name stored versions.
+ * Updates carrying If-Match and bulk status changes also write the held updates they affect first; a
+ * delete drops the task's held update. The flush methods must be called outside a transaction: they wait
+ * for the background flush and write with connections of their own.
+ */
+@Component
+public class TaskWriteBehind {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskWriteBehind.class);
+
+    private record PendingWrite(UUID ownerId, TaskDetails details, int failedAttempts) {
+
+        PendingWrite failed() {
+            return new PendingWrite(ownerId, details, failedAttempts + 1);
+        }
+    }
+
+    private final Map<UUID, PendingWrite> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final Duration window;
+    private final int maxBatch;
+    private final int maxPending;
+    private final int maxAttempts;
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("task-write-behind").daemon().factory());
+    private final Counter flushed;
+    private final Counter retried;
+    private final Counter dropped;
+
+    public TaskWriteBehind(TaskRepository taskRepository, PlatformTransactionManager transactionManager,
+                           ApplicationEventPublisher eventPublisher,
+                           @Value("${tasktracker.tasks.write-behind.enabled:false}") boolean enabled,
+                           @Value("${tasktracker.tasks.write-behind.window:500ms}") Duration window,
+                           @Value("${tasktracker.tasks.write-behind.max-batch:500}") int maxBatch,
+                           @Value("${tasktracker.tasks.write-behind.max-pending:10000}") int maxPending,
+                           @Value("${tasktracker.tasks.write-behind.max-attempts:20}") int maxAttempts,
+                           MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.window = window;
+        this.maxBatch = maxBatch;
+        this.maxPending = maxPending;
+        this.maxAttempts = maxAttempts;
+        this.flushed = Counter.builder("tasktracker.write-behind.flushed")
+                .description("Task updates written by the write-behind flush")
+                .register(meterRegistry);
+        this.retried = Counter.builder("tasktracker.write-behind.retried")
+                .description("Held task updates kept for another attempt after a failed write")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("tasktracker.write-behind.dropped")
+                .description("Held task updates dropped after max-attempts failed writes")
+                .register(meterRegistry);
+        Gauge.builder("tasktracker.write-behind.pending", pending, Map::size)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            flusher.scheduleWithFixedDelay(this::flushAll, window.toMillis(), window.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(window.toMillis() * 2, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushAll();
+        if (!pending.isEmpty()) {
+            log.error("{} held task updates could not be written before shutdown and are lost", pending.size());
+        }
+    }
+
+    /**
+     * Holds an update to be written later, if write-behind is enabled and the task can take it.
+     * @param ownerId owner making the update.
+     * @param taskId task to update.
+     * @param details new field values.
+     * @return false if the update must be written directly instead: write-behind is off, too many updates are
+     * held, or the task does not exist or belongs to someone else.
+     */
+    boolean offer(UUID ownerId, UUID taskId, TaskDetails details) {
+        if (!enabled) {
+            return false;
+        }
+        PendingWrite held = pending.get(taskId);
+        if (held == null) {
+            if (pending.size() >= maxPending || taskRepository.findVersionByTaskIdAndOwner(taskId, ownerId).isEmpty()) {
+                return false;
+            }
+        } else if (!held.ownerId().equals(ownerId)) {
+            return false;
+        }
+        pending.put(taskId, new PendingWrite(ownerId, details, 0));
+        return true;
+    }
+
+    /**
+     * Returns the view with any held update applied. The version stays the stored one, so it cannot be used
+     * to match a held update that is not yet written.
+     */
+    TaskView overlay(TaskView view) {
+        PendingWrite held = pending.get(view.taskId());
+        if (held == null) {
+            return view;
+        }
+        TaskDetails details = held.details();
+        return new TaskView(view.taskId(), details.taskName(), details.taskDescription(), details.taskStatus(),
+                details.dueDate(), view.version());
+    }
+
+    /**
+     * Drops the held update of a task its owner has just deleted.
+     */
+    void discard(UUID ownerId, UUID taskId) {
+        pending.computeIfPresent(taskId, (id, held) -> held.ownerId().equals(ownerId) ? null : held);
+    }
+
+    /**
+     * Writes the held update of one task now.
+     */
+    void flushTask(UUID taskId) {
+        if (pending.containsKey(taskId)) {
+            flush(taskId::equals);
+        }
+    }
+
+    /**
+     * Writes the held updates of one owner's tasks now.
+     */
+    void flushOwner(UUID ownerId) {
+        flush(taskId -> {
+            PendingWrite held = pending.get(taskId);
+            return held != null && held.ownerId().equals(ownerId);
+        });
+    }
+
+    /**
+     * Writes every held update.
+     */
+    void flushAll() {
+        flush(taskId -> true);
+    }
+
+    private void flush(Predicate<UUID> selected) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Assert.state(!TransactionSynchronizationManager.isActualTransactionActive(),
+                "Held task updates must be flushed outside a transaction");
+        // One flush at a time, so a task's held update is never written by two transactions at once.
+        flushLock.lock();
+        try {
+            Map<UUID, PendingWrite> batch = new LinkedHashMap<>();
+            for (Map.Entry<UUID, PendingWrite> entry : pending.entrySet()) {
+                if (selected.test(entry.getKey())) {
+                    batch.put(entry.getKey(), entry.getValue());
+                    if (batch.size() == maxBatch) {
+                        write(batch);
+                        batch.clear();
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void write(Map<UUID, PendingWrite> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Task task : taskRepository.findAllById(batch.keySet())) {
+                    PendingWrite held = batch.get(task.getTaskId());
+                    if (task.getOwner().getUserId().equals(held.ownerId())) {
+                        apply(task, held.details());
+                        eventPublisher.publishEvent(TaskEvent.updated(held.ownerId(), task.getTaskId(), held.details()));
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("Batched write of {} held task updates failed, writing them one at a time", batch.size(), e);
+            batch.forEach(this::writeOne);
+            return;
+        }
+        flushed.increment(batch.size());
+        // Keep any update that arrived during the write; it goes out with the next flush.
+        batch.forEach(pending::remove);
+    }
+
+    private void writeOne(UUID taskId, PendingWrite held) {
+        TaskDetails details = held.details();
+        int updated;
+        try {
+            updated = transactionTemplate.execute(status -> {
+                int rows = taskRepository.updateOwnedTask(taskId, held.ownerId(), details.taskName(),
+                        details.taskDescription(), details.taskStatus(), details.dueDate(), null);
+                if (rows > 0) {
+                    eventPublisher.publishEvent(TaskEvent.updated(held.ownerId(), taskId, details));
+                }
+                return rows;
+            });
+        } catch (RuntimeException e) {
+            if (held.failedAttempts() + 1 >= maxAttempts) {
+                dropped.increment();
+                pending.remove(taskId, held);
+                log.error("Held update of task {} failed {} times and is dropped", taskId, maxAttempts, e);
+            } else {
+                retried.increment();
+                pending.replace(taskId, held, held.failed());
+                log.warn("Held update of task {} could not be written, retrying next window", taskId, e);
+            }
+            return;
+        }
+        if (updated > 0) {
+            flushed.increment();
+        } else {
+            log.debug("Task {} was deleted before its held update was written", taskId);
+        }
+        pending.remove(taskId, held);
+    }
+
+    private static void apply(Task task, TaskDetails details) {
+        task.setTaskName(details.taskName());
+        task.setTaskDescription(details.taskDescription());
+        task.setTaskStatus(details.taskStatus());
+        task.setDueDate(details.dueDate());
+    }
+}
@@ -0,0 +1,55 @@
+package com.BenjaminPark.service;
+
+import com.BenjaminPark.domain.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of users, keyed by userId.
+ * <p>
+ * Entries are evicted by size (W-TinyLFU) and expire a fixed time after being loaded, which bounds
+ * how stale a user changed on another node can be. Changes made through {@link UserService} invalidate
+ * the entry on this node immediately. Hit, miss and eviction counts are published as {@code cache.*} metrics.
+ * <p>
+ * Authentication never reads this cache: a password change or delete on another node would otherwise
+ * leave the old credentials valid here until the entry expires.
+ * <p>
+ * Cached users are detached and shared between threads; callers must not modify them.
+ */
+@Component
+public class UserCache {
+
+    private final Cache<UUID, User> byId;
+
+    public UserCache(@Value("${tasktracker.users.cache.maximum-size:10000}") long maximumSize,
+                     @Value("${tasktracker.users.cache.ttl:10m}") Duration ttl,
+                     MeterRegistry meterRegistry) {
+        this.byId = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "users.byId");
+    }
+
+    /**
+     * Returns the cached user with this id, loading it on a miss.
+     * @param userId id of the user.
+     * @param loader loads the user; exceptions it throws are propagated and nothing is cached.
+     */
+    public User getById(UUID userId, Function<UUID, User> loader) {
+        return byId.get(userId, loader);
+    }
+
+    /**
+     * Removes a user from the cache.
+     * @param userId id of the user.
+     */
+    public void invalidate(UUID userId) {
+        byId.invalidate(userId);
+    }
+}
@@ -4,37 +4,51 @@ import com.BenjaminPark.domain.User;
 import com.BenjaminPark.exceptions.*;
 import com.BenjaminPark.repository.TaskRepository;
 import com.BenjaminPark.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
 
 @Service
+@Timed("tasktracker.service")
 public class UserService {
 
     private final UserRepository userRepository;
     private final TaskRepository taskRepository;
+    private final UserCache userCache;
 
-    public UserService(UserRepository userRepository, TaskRepository taskRepository) {
+    public UserService(UserRepository userRepository, TaskRepository taskRepository, UserCache userCache) {
         this.userRepository = userRepository;
         this.taskRepository = taskRepository;
+        this.userCache = userCache;
     }
 
 
     /**
      * Adds user to database.
+     * Goes straight to INSERT; duplicates are reported by the primary key and username constraints.
      * @param user User added to database.
      * @return User added to database.
      * @throws RuntimeException throws DuplicateUserIdException or DuplicateUsernameException
      */
 
     public User createUser(User user) throws RuntimeException {
-        if (userRepository.existsById(user.getUserId())) {
-            throw new DuplicateUserIdException("UserId already exists.");
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            // Schemas created before the constraint was named keep a generated name for it; username is
+            // the only unique column besides the id, so any other duplicate key is a duplicate username.
+            if (ConstraintViolations.violates(e, User.USERNAME_CONSTRAINT)
+                    || ConstraintViolations.isDuplicateKey(e) && !ConstraintViolations.isPrimaryKey(e)) {
+                throw new DuplicateUsernameException("Username already exists.");
+            }
+            if (ConstraintViolations.isPrimaryKey(e)) {
+                throw new DuplicateUserIdException("UserId already exists.");
+            }
+            throw e;
         }
-        if (userRepository.existsByUsername(user.getUsername())) {
-            throw new DuplicateUsernameException("Username already exists.");
-        }
-        userRepository.save(user);
         return user;
     }
 
@@ -53,9 +67,56 @@ public class UserService {
         oldUser.changeUserPassword(oldPassword, newPassword);
 
         userRepository.save(oldUser);
+        userCache.invalidate(userId);
         return oldUser;
     }
 
+    /**
+     * Changes the username of an existing user.
+     * @param userId userId of user updated.
+     * @param username new username.
+     * @param expectedVersion version the client last saw, or null to update unconditionally; checked against
+     *                        the user as stored in the database, never the user cache.
+     * @return updated user.
+     * @throws MissingUserIdException
+     * @throws VersionConflictException if the user is no longer at expectedVersion.
+     */
+    public User updateUsername(UUID userId, String username, Long expectedVersion)
+            throws MissingUserIdException, VersionConflictException {
+        User user = userRepository.findById(userId).orElseThrow(() -> new MissingUserIdException("UserId Not Found."));
+        if (expectedVersion != null && user.getVersion() != expectedVersion) {
+            throw new VersionConflictException("User " + userId + " has been modified since version " + expectedVersion + ".");
+        }
+        user.setUsername(username);
+
+        try {
+            user = userRepository.save(user);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new VersionConflictException("User " + userId + " was modified concurrently.");
+        }
+        userCache.invalidate(userId);
+        return user;
+    }
+
+    /**
+     * Replaces the stored password hash of a user, e.g. after upgrading its work factor on login.
+     * The password itself is unchanged, so the user keeps its version.
+     * @param userId userId of user updated.
+     * @param hashedPassword new hash of the user's current password.
+     * @return updated user.
+     * @throws MissingUserIdException
+     */
+    public User rehashUserPassword(UUID userId, String hashedPassword) throws MissingUserIdException {
+        User user = userRepository.findById(userId).orElseThrow(() -> new MissingUserIdException("UserId Not Found."));
+        if (userRepository.updatePasswordHash(userId, hashedPassword) == 0) {
+            throw new MissingUserIdException("UserId Not Found.");
+        }
+        user.rehashUserPassword(hashedPassword);
+
+        userCache.invalidate(userId);
+        return user;
+    }
+
     /**
      * Deletes user from database.
      * @param userId userId of user deleted.
@@ -69,30 +130,63 @@ public class UserService {
             throw new InvalidPasswordException("Invalid Password");
         }
         userRepository.delete(user);
+        userCache.invalidate(userId);
         return user;
     }
 
     /**
-     * Returns user by userId
+     * Returns user by userId, served from the user cache when possible.
+     * The returned user is shared and must not be modified.
      * @param id userId of user returned.
      * @return user
      * @throws MissingUserIdException
      */
     public User getUserById(UUID id) throws MissingUserIdException {
-        return userRepository.findById(id).orElseThrow(() ->
+        return userCache.getById(id, key -> userRepository.findById(key).orElseThrow(() ->
+                new MissingUserIdException("User with id " + key + " does not exist")));
+    }
+
+    /**
+     * Returns user by userId at the given version, served from the user cache only while the cached copy
+     * is at that version. Callers pass the version just read with {@link #getUserVersion} so that a copy
+     * left stale by another node is reloaded.
+     * The returned user is shared and must not be modified.
+     * @param id userId of user returned.
+     * @param currentVersion version of the user in the database.
+     * @return user, at currentVersion or newer.
+     * @throws MissingUserIdException
+     */
+    public User getUserById(UUID id, long currentVersion) throws MissingUserIdException {
+        User user = getUserById(id);
+        if (user.getVersion() < currentVersion) {
+            userCache.invalidate(id);
+            user = getUserById(id);
+        }
+        return user;
+    }
+
+    /**
+     * Returns only the current version of a user, read from the database.
+     * @param id userId of the user.
+     * @return version of the user.
+     * @throws MissingUserIdException
+     */
+    public long getUserVersion(UUID id) throws MissingUserIdException {
+        return userRepository.findVersionByUserId(id).orElseThrow(() ->
                 new MissingUserIdException("User with id " + id + " does not exist"));
     }
 
     /**
-     * Returns user by username
+     * Returns user by username, always read from the database.
+     * Used to authenticate logins, which must see password changes and deletes made on any node at once,
+     * so the user cache is bypassed.
      * @param username username of user returned.
      * @return user
      * @throws MissingUsernameException
      */
     public User getUserByUsername(String username) throws MissingUsernameException {
         return userRepository.findByUsername(username).orElseThrow(() ->
-                new MissingUsernameException("User with username " + username + " not found.")
-        );
+                new MissingUsernameException("User with username " + username + " not found."));
     }
 }
 
@@ -0,0 +1,10 @@
+package com.BenjaminPark;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Boots the application, or a slice of it, for tests. Datasources are replaced by in-memory H2.
+ */
+@SpringBootApplication
+public class TaskTrackerTestApplication {
+}
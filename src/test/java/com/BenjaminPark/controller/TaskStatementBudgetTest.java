@@ -0,0 +1,115 @@
+package com.BenjaminPark.controller;
+
+import com.BenjaminPark.config.StatementCountFilter;
+import com.BenjaminPark.domain.Task;
+import com.BenjaminPark.domain.User;
+import com.BenjaminPark.repository.TaskRepository;
+import com.BenjaminPark.repository.UserRepository;
+import com.BenjaminPark.security.TokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that each task endpoint runs no more SQL statements than its budget, as reported by
+ * {@link StatementCountFilter}. A listing that loads tasks one by one, or a write that reloads the owner,
+ * shows up here as a count above the budget.
+ */
+@SpringBootTest(properties = {
+        "tasktracker.sql.statement-count.enabled=true",
+        "tasktracker.security.mode=stateless",
+        "tasktracker.security.bcrypt.cost=4"})
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+class TaskStatementBudgetTest {
+
+    private static final int TASKS = 60;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TokenService tokenService;
+
+    private String tasksUrl;
+    private String taskUrl;
+    private String authorization;
+
+    @BeforeEach
+    void seedTasks() {
+        User owner = userRepository.save(new User("budget-user-" + System.nanoTime(), "password"));
+        List<Task> tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(new Task(owner, "Task " + i, "Seeded task " + i, LocalDate.now().plusDays(i)));
+        }
+        taskRepository.persistAll(tasks);
+
+        tasksUrl = "/users/" + owner.getUserId() + "/tasks";
+        taskUrl = tasksUrl + "/" + tasks.get(0).getTaskId();
+        authorization = "Bearer " + tokenService.issue(owner.getUserId()).token();
+    }
+
+    @Test
+    void createRunsAtMostTwoStatements() throws Exception {
+        // The owner is loaded unless it is already cached, then the task is inserted.
+        assertWithin(2, post(tasksUrl).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"taskName\":\"New task\",\"taskDescription\":\"Created\",\"dueDate\":\"2030-01-01\"}"), 201);
+    }
+
+    @Test
+    void getRunsOneStatement() throws Exception {
+        assertWithin(1, get(taskUrl), 200);
+    }
+
+    @Test
+    void patchRunsOneStatement() throws Exception {
+        assertWithin(1, patch(taskUrl).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"taskName\":\"Renamed\",\"taskDescription\":\"Updated\",\"taskStatus\":\"IN_PROGRESS\"}"), 200);
+    }
+
+    @Test
+    void listRunsOneStatement() throws Exception {
+        assertWithin(1, get(tasksUrl).param("limit", "50"), 200);
+    }
+
+    @Test
+    void deleteRunsOneStatement() throws Exception {
+        assertWithin(1, delete(taskUrl), 204);
+    }
+
+    private void assertWithin(int budget, MockHttpServletRequestBuilder request, int expectedStatus) throws Exception {
+        MvcResult result = mockMvc.perform(request.header(HttpHeaders.AUTHORIZATION, authorization))
+                .andExpect(status().is(expectedStatus))
+                .andReturn();
+        String header = result.getResponse().getHeader(StatementCountFilter.HEADER);
+        assertNotNull(header, "No " + StatementCountFilter.HEADER + " header");
+        int statements = Integer.parseInt(header);
+        assertTrue(statements <= budget, "Ran " + statements + " SQL statements, budget is " + budget);
+    }
+}
@@ -0,0 +1,139 @@
+package com.BenjaminPark.reminder;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTest {
+
+    private static final UUID OWNER = UUID.randomUUID();
+    private static final LocalDate DUE = LocalDate.of(2026, 1, 15);
+
+    @Test
+    void firesReminderWhenDeadlineIsReached() {
+        TimingWheel wheel = new TimingWheel(8, 0);
+        UUID taskId = UUID.randomUUID();
+        assertTrue(wheel.schedule(taskId, OWNER, DUE, 5));
+
+        List<Reminder> fired = new ArrayList<>();
+        wheel.advance(4, fired::add);
+        assertTrue(fired.isEmpty());
+
+        wheel.advance(5, fired::add);
+        assertEquals(List.of(new Reminder(taskId, OWNER, DUE)), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void rejectsDeadlineThatHasPassed() {
+        TimingWheel wheel = new TimingWheel(8, 10);
+        UUID taskId = UUID.randomUUID();
+
+        assertFalse(wheel.schedule(taskId, OWNER, DUE, 10));
+        assertFalse(wheel.schedule(taskId, OWNER, DUE, 3));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void cancelledReminderDoesNotFire() {
+        TimingWheel wheel = new TimingWheel(8, 0);
+        UUID taskId = UUID.randomUUID();
+        wheel.schedule(taskId, OWNER, DUE, 3);
+
+        assertTrue(wheel.cancel(taskId));
+        assertFalse(wheel.cancel(taskId));
+
+        List<Reminder> fired = new ArrayList<>();
+        wheel.advance(10, fired::add);
+        assertTrue(fired.isEmpty());
+    }
+
+    @Test
+    void schedulingAgainReplacesTheReminder() {
+        TimingWheel wheel = new TimingWheel(8, 0);
+        UUID taskId = UUID.randomUUID();
+        LocalDate later = DUE.plusDays(1);
+        wheel.schedule(taskId, OWNER, DUE, 3);
+        wheel.schedule(taskId, OWNER, later, 6);
+        assertEquals(1, wheel.size());
+
+        List<Reminder> fired = new ArrayList<>();
+        wheel.advance(5, fired::add);
+        assertTrue(fired.isEmpty());
+
+        wheel.advance(6, fired::add);
+        assertEquals(List.of(new Reminder(taskId, OWNER, later)), fired);
+    }
+
+    @Test
+    void reminderInLaterRotationWaitsForItsDeadline() {
+        TimingWheel wheel = new TimingWheel(8, 0);
+        UUID taskId = UUID.randomUUID();
+        // Slot 4 is passed at ticks 4 and 12 before the deadline at 20.
+        wheel.schedule(taskId, OWNER, DUE, 20);
+
+        List<Reminder> fired = new ArrayList<>();
+        for (long tick = 1; tick < 20; tick++) {
+            wheel.advance(tick, fired::add);
+        }
+        assertTrue(fired.isEmpty());
+        assertEquals(1, wheel.size());
+
+        wheel.advance(20, fired::add);
+        assertEquals(1, fired.size());
+    }
+
+    @Test
+    void advancingPastSeveralRotationsFiresEverythingDue() {
+        TimingWheel wheel = new TimingWheel(8, 0);
+        for (long deadline = 1; deadline <= 30; deadline++) {
+            wheel.schedule(UUID.randomUUID(), OWNER, DUE, deadline);
+        }
+        UUID notYetDue = UUID.randomUUID();
+        wheel.schedule(notYetDue, OWNER, DUE, 1000);
+
+        List<Reminder> fired = new ArrayList<>();
+        wheel.advance(100, fired::add);
+        assertEquals(30, fired.size());
+        assertEquals(1, wheel.size());
+
+        fired.clear();
+        wheel.advance(1000, fired::add);
+        assertEquals(List.of(new Reminder(notYetDue, OWNER, DUE)), fired);
+    }
+
+    @Test
+    void lookupSurvivesResize() {
+        TimingWheel wheel = new TimingWheel(64, 0);
+        List<UUID> taskIds = new ArrayList<>();
+        // Well past the initial 1024 buckets, so the hash table is resized several times.
+        for (int i = 0; i < 5000; i++) {
+            UUID taskId = UUID.randomUUID();
+            taskIds.add(taskId);
+            wheel.schedule(taskId, OWNER, DUE, 1 + i % 200);
+        }
+        assertEquals(5000, wheel.size());
+
+        Set<UUID> cancelled = new HashSet<>();
+        for (int i = 0; i < taskIds.size(); i += 2) {
+            assertTrue(wheel.cancel(taskIds.get(i)));
+            cancelled.add(taskIds.get(i));
+        }
+        assertEquals(2500, wheel.size());
+
+        Set<UUID> fired = new HashSet<>();
+        wheel.advance(200, reminder -> assertTrue(fired.add(reminder.taskId())));
+        assertEquals(2500, fired.size());
+        assertTrue(fired.stream().noneMatch(cancelled::contains));
+        assertEquals(0, wheel.size());
+    }
+}